@@ -0,0 +1,70 @@
+package io.testcontainers.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@link NatsCluster} time-to-ready with full route mesh and time-to-first-publish for different cluster
+ * sizes and startup modes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NatsClusterStartupBenchmark {
+
+    private static final String IMAGE = "nats:2.11-alpine";
+
+    // cluster size with leader included
+    @Param({ "2", "3", "5", "7" })
+    public int nodes;
+
+    @Param({ "LEADER", "PARALLEL" })
+    public NatsCluster.StartupMode startupMode;
+
+    private NatsCluster cluster;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        cluster = NatsCluster.builder(IMAGE)
+                .withNodes(nodes - 1)
+                .withStartupMode(startupMode)
+                .build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void teardown() {
+        cluster.stop();
+    }
+
+    @Benchmark
+    public NatsCluster timeToReady() {
+        cluster.start();
+        return cluster;
+    }
+
+    @Benchmark
+    public NatsCluster timeToFirstPublish() throws Exception {
+        cluster.start();
+        try (Connection connection = Nats.connect(cluster.getURI().toString())) {
+            connection.publish("subj", "subjValue".getBytes(StandardCharsets.UTF_8));
+            connection.flush(Duration.ofSeconds(10));
+        }
+        return cluster;
+    }
+}
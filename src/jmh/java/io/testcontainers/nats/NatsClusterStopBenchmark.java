@@ -0,0 +1,51 @@
+package io.testcontainers.nats;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@link NatsCluster} stop latency for different cluster sizes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NatsClusterStopBenchmark {
+
+    // cluster size with leader included
+    @Param({ "2", "3", "5", "7" })
+    public int nodes;
+
+    private NatsCluster cluster;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        cluster = NatsCluster.builder("nats:2.11-alpine")
+                .withNodes(nodes - 1)
+                .withStartupMode(NatsCluster.StartupMode.PARALLEL)
+                .build();
+        cluster.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void teardown() {
+        cluster.stop();
+    }
+
+    @Benchmark
+    public NatsCluster stop() {
+        cluster.stop();
+        return cluster;
+    }
+}
@@ -0,0 +1,82 @@
+package io.testcontainers.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+
+/**
+ * Measures single {@link NatsContainer} time-to-ready and time-to-first-publish with different wait strategies.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NatsContainerStartupBenchmark {
+
+    private static final String IMAGE = "nats:2.11-alpine";
+
+    public enum WaitType {
+
+        LOG,
+        HEALTHZ,
+        ROUTES;
+
+        WaitStrategy strategy() {
+            switch (this) {
+                case HEALTHZ:
+                    return Wait.forHttp("/healthz").forPort(NatsContainer.PORT_MONITORING);
+                case ROUTES:
+                    return new NatsRoutesWaitStrategy(0);
+                default:
+                    return Wait.forLogMessage(".*Server is ready.*", 1);
+            }
+        }
+    }
+
+    @Param({ "LOG", "HEALTHZ", "ROUTES" })
+    public WaitType waitType;
+
+    private NatsContainer container;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        container = new NatsContainer(IMAGE).waitingFor(waitType.strategy());
+    }
+
+    @TearDown(Level.Invocation)
+    public void teardown() {
+        container.stop();
+    }
+
+    @Benchmark
+    public NatsContainer timeToReady() {
+        container.start();
+        return container;
+    }
+
+    @Benchmark
+    public NatsContainer timeToFirstPublish() throws Exception {
+        container.start();
+        try (Connection connection = Nats.connect(container.getURI().toString())) {
+            connection.publish("subj", "subjValue".getBytes(StandardCharsets.UTF_8));
+            connection.flush(Duration.ofSeconds(10));
+        }
+        return container;
+    }
+}
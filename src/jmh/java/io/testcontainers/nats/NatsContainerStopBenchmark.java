@@ -0,0 +1,43 @@
+package io.testcontainers.nats;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures single {@link NatsContainer} stop latency.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NatsContainerStopBenchmark {
+
+    private NatsContainer container;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        container = new NatsContainer("nats:2.11-alpine");
+        container.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void teardown() {
+        container.stop();
+    }
+
+    @Benchmark
+    public NatsContainer stop() {
+        container.stop();
+        return container;
+    }
+}
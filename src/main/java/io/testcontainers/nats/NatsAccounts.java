@@ -0,0 +1,450 @@
+package io.testcontainers.nats;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Multi tenant <a href="https://docs.nats.io/running-a-nats-service/configuration/securing_nats/accounts">accounts</a>
+ * configuration with users, exports, imports and subject mappings, rendered into server configuration via
+ * {@link NatsConfig#withAccounts(NatsAccounts)} so it can be applied to container and each cluster node.
+ * <p>
+ * Accounts can not be combined with single token or username and password authentication, clients connect with
+ * credentials of account users, see {@link #getUser(String)}.
+ * <p>
+ * Generated passwords are derived from password seed and username, so same configuration renders same server
+ * configuration and reusable containers are reused between runs.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsAccounts {
+
+    public static final class User {
+
+        private final String account;
+        private final String username;
+        private final String password;
+
+        private User(String account, String username, String password) {
+            this.account = account;
+            this.username = username;
+            this.password = password;
+        }
+
+        public String getAccount() {
+            return account;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String toString() {
+            return "[account=" + account + ", username=" + username + ']';
+        }
+    }
+
+    public static final class Account {
+
+        private final String name;
+        private final List<User> users = new ArrayList<>();
+        private final List<String> streamExports = new ArrayList<>();
+        private final List<String> serviceExports = new ArrayList<>();
+        private final List<Import> imports = new ArrayList<>();
+        private final Map<String, String> mappings = new LinkedHashMap<>();
+
+        private Account(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<User> getUsers() {
+            return List.copyOf(users);
+        }
+
+        /**
+         * @return first user of account
+         */
+        public User getUser() {
+            if (users.isEmpty())
+                throw new IllegalStateException("Account has no users: " + name);
+            return users.get(0);
+        }
+
+        public List<String> getStreamExports() {
+            return List.copyOf(streamExports);
+        }
+
+        public List<String> getServiceExports() {
+            return List.copyOf(serviceExports);
+        }
+
+        /**
+         * @return subject mappings of account, source subject to destination subject
+         */
+        public Map<String, String> getMappings() {
+            return Map.copyOf(mappings);
+        }
+
+        @Override
+        public String toString() {
+            return "[name=" + name
+                    + ", users=" + users.size()
+                    + ", streamExports=" + streamExports
+                    + ", serviceExports=" + serviceExports
+                    + ", imports=" + imports.size()
+                    + ", mappings=" + mappings + ']';
+        }
+    }
+
+    private static final class Import {
+
+        private final boolean service;
+        private final String account;
+        private final String subject;
+        @Nullable
+        private final String to;
+
+        private Import(boolean service, String account, String subject, @Nullable String to) {
+            this.service = service;
+            this.account = account;
+            this.subject = subject;
+            this.to = to;
+        }
+    }
+
+    private final Map<String, Account> accounts = new LinkedHashMap<>();
+    private final Map<String, User> users = new LinkedHashMap<>();
+    private boolean jetStream = false;
+    @Nullable
+    private String noAuthUser;
+    private String passwordSeed = "nats";
+    private boolean passwordsGenerated = false;
+
+    /**
+     * @param passwordSeed generated passwords are derived from, must be set before users with generated password
+     *                         are added
+     * @return self
+     */
+    public NatsAccounts withPasswordSeed(String passwordSeed) {
+        if (passwordsGenerated)
+            throw new IllegalStateException(
+                    "Password seed must be set before users with generated password are added");
+
+        this.passwordSeed = Objects.requireNonNull(passwordSeed);
+        return this;
+    }
+
+    /**
+     * @param name of account, account is not changed if it already exists
+     * @return self
+     */
+    public NatsAccounts withAccount(String name) {
+        getOrCreate(name);
+        return this;
+    }
+
+    /**
+     * @param account  user belongs to, created if it does not exist
+     * @param username unique across all accounts
+     * @param password of user
+     * @return self
+     */
+    public NatsAccounts withUser(String account, String username, String password) {
+        if (users.containsKey(Objects.requireNonNull(username)))
+            throw new IllegalArgumentException("User already exists: " + username);
+
+        final User user = new User(account, username, Objects.requireNonNull(password));
+        getOrCreate(account).users.add(user);
+        users.put(username, user);
+        return this;
+    }
+
+    /**
+     * @param account users belong to, created if it does not exist
+     * @param users   number of users with password generated from {@link #withPasswordSeed(String)}, named as
+     *                    account with user number suffix, e.g. <b>tenant-1-2</b>
+     * @return self
+     */
+    public NatsAccounts withUsers(String account, int users) {
+        if (users < 1)
+            throw new IllegalArgumentException("Users can not be less 1");
+
+        final int existing = getOrCreate(account).users.size();
+        for (int i = 1; i <= users; i++) {
+            final String username = account + "-" + (existing + i);
+            withUser(account, username, generatePassword(passwordSeed, username));
+        }
+        this.passwordsGenerated = true;
+        return this;
+    }
+
+    /**
+     * @return password derived from seed and username, so same configuration renders same server configuration
+     */
+    static String generatePassword(String seed, String username) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(seed.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+
+            final StringBuilder builder = new StringBuilder();
+            final byte[] hash = digest.digest();
+            for (int i = 0; i < 16; i++) {
+                builder.append(String.format("%02x", hash[i]));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param prefix        of account names, accounts are named with account number suffix, e.g. <b>tenant-1</b>
+     * @param accounts      number of accounts to generate
+     * @param usersPerAccount number of users with generated password per account
+     * @return self
+     */
+    public NatsAccounts withTenants(String prefix, int accounts, int usersPerAccount) {
+        if (accounts < 1)
+            throw new IllegalArgumentException("Accounts can not be less 1");
+
+        for (int i = 1; i <= accounts; i++) {
+            withUsers(prefix + "-" + i, usersPerAccount);
+        }
+        return this;
+    }
+
+    /**
+     * @param account that exports subject
+     * @param subject exported as stream, can contain wildcards
+     * @return self
+     */
+    public NatsAccounts withStreamExport(String account, String subject) {
+        getOrCreate(account).streamExports.add(Objects.requireNonNull(subject));
+        return this;
+    }
+
+    /**
+     * @param account that exports subject
+     * @param subject exported as service, can contain wildcards
+     * @return self
+     */
+    public NatsAccounts withServiceExport(String account, String subject) {
+        getOrCreate(account).serviceExports.add(Objects.requireNonNull(subject));
+        return this;
+    }
+
+    /**
+     * @param account that imports stream
+     * @param from    account that exports stream
+     * @param subject exported by source account
+     * @return self
+     */
+    public NatsAccounts withStreamImport(String account, String from, String subject) {
+        return withImport(false, account, from, subject, null);
+    }
+
+    /**
+     * @param account that imports stream
+     * @param from    account that exports stream
+     * @param subject exported by source account
+     * @param to      subject messages are delivered to in importing account
+     * @return self
+     */
+    public NatsAccounts withStreamImport(String account, String from, String subject, String to) {
+        return withImport(false, account, from, subject, Objects.requireNonNull(to));
+    }
+
+    /**
+     * @param account that imports service
+     * @param from    account that exports service
+     * @param subject exported by source account
+     * @return self
+     */
+    public NatsAccounts withServiceImport(String account, String from, String subject) {
+        return withImport(true, account, from, subject, null);
+    }
+
+    /**
+     * @param account that imports service
+     * @param from    account that exports service
+     * @param subject exported by source account
+     * @param to      subject requests are sent to in importing account
+     * @return self
+     */
+    public NatsAccounts withServiceImport(String account, String from, String subject, String to) {
+        return withImport(true, account, from, subject, Objects.requireNonNull(to));
+    }
+
+    private NatsAccounts withImport(boolean service,
+                                    String account,
+                                    String from,
+                                    String subject,
+                                    @Nullable String to) {
+        getOrCreate(account).imports.add(new Import(service, Objects.requireNonNull(from),
+                Objects.requireNonNull(subject), to));
+        return this;
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/configuration/configuring_subject_mapping">Subject
+     * mapping</a> applied to messages published in account
+     *
+     * @param account     mapping belongs to
+     * @param source      subject, can contain wildcards
+     * @param destination subject, can reference source wildcards, e.g. <b>orders.{{wildcard(1)}}</b>
+     * @return self
+     */
+    public NatsAccounts withMapping(String account, String source, String destination) {
+        getOrCreate(account).mappings.put(Objects.requireNonNull(source), Objects.requireNonNull(destination));
+        return this;
+    }
+
+    /**
+     * Enables JetStream for each account, server must have JetStream enabled
+     *
+     * @return self
+     */
+    public NatsAccounts withJetStream() {
+        this.jetStream = true;
+        return this;
+    }
+
+    /**
+     * @param username of user that clients without credentials are authenticated as (no_auth_user)
+     * @return self
+     */
+    public NatsAccounts withNoAuthUser(String username) {
+        this.noAuthUser = Objects.requireNonNull(username);
+        return this;
+    }
+
+    public List<Account> getAccounts() {
+        return List.copyOf(accounts.values());
+    }
+
+    public Account getAccount(String name) {
+        final Account account = accounts.get(name);
+        if (account == null)
+            throw new IllegalArgumentException("Account not found: " + name);
+        return account;
+    }
+
+    public User getUser(String username) {
+        final User user = users.get(username);
+        if (user == null)
+            throw new IllegalArgumentException("User not found: " + username);
+        return user;
+    }
+
+    @Nullable
+    public String getNoAuthUser() {
+        return noAuthUser;
+    }
+
+    private Account getOrCreate(String name) {
+        if (Objects.requireNonNull(name).isBlank())
+            throw new IllegalArgumentException("Account name can not be blank");
+        return accounts.computeIfAbsent(name, Account::new);
+    }
+
+    /**
+     * @return accounts configuration block
+     */
+    String getConfig() {
+        if (noAuthUser != null && !users.containsKey(noAuthUser))
+            throw new IllegalStateException("No auth user is not defined in any account: " + noAuthUser);
+        for (Account account : accounts.values()) {
+            for (Import accountImport : account.imports) {
+                if (!accounts.containsKey(accountImport.account))
+                    throw new IllegalStateException("Account " + account.name
+                            + " imports from account that is not defined: " + accountImport.account);
+            }
+        }
+
+        return render();
+    }
+
+    private String render() {
+        final StringBuilder builder = new StringBuilder("accounts {\n");
+        for (Account account : accounts.values()) {
+            builder.append("  ").append(quote(account.name)).append(": {\n");
+            if (jetStream) {
+                builder.append("    jetstream: enabled\n");
+            }
+            if (!account.users.isEmpty()) {
+                builder.append("    users: [\n");
+                for (User user : account.users) {
+                    builder.append("      { user: ").append(quote(user.username))
+                            .append(", password: ").append(quote(user.password)).append(" }\n");
+                }
+                builder.append("    ]\n");
+            }
+            if (!account.streamExports.isEmpty() || !account.serviceExports.isEmpty()) {
+                builder.append("    exports: [\n");
+                account.streamExports.forEach(subject -> builder.append("      { stream: ")
+                        .append(quote(subject)).append(" }\n"));
+                account.serviceExports.forEach(subject -> builder.append("      { service: ")
+                        .append(quote(subject)).append(" }\n"));
+                builder.append("    ]\n");
+            }
+            if (!account.imports.isEmpty()) {
+                builder.append("    imports: [\n");
+                for (Import accountImport : account.imports) {
+                    builder.append("      { ").append(accountImport.service ? "service" : "stream")
+                            .append(": { account: ").append(quote(accountImport.account))
+                            .append(", subject: ").append(quote(accountImport.subject)).append(" }");
+                    if (accountImport.to != null) {
+                        builder.append(", to: ").append(quote(accountImport.to));
+                    }
+                    builder.append(" }\n");
+                }
+                builder.append("    ]\n");
+            }
+            if (!account.mappings.isEmpty()) {
+                builder.append("    mappings: {\n");
+                account.mappings.forEach((source, destination) -> builder.append("      ").append(quote(source))
+                        .append(": ").append(quote(destination)).append("\n"));
+                builder.append("    }\n");
+            }
+            builder.append("  }\n");
+        }
+        builder.append("}\n");
+
+        if (noAuthUser != null) {
+            builder.append("no_auth_user: ").append(quote(noAuthUser)).append("\n");
+        }
+        return builder.toString();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        // passwords are part of configuration, so digest differs when password seed differs
+        return "[accounts=" + accounts.size()
+                + ", users=" + users.size()
+                + ", jetStream=" + jetStream
+                + ", noAuthUser=" + noAuthUser
+                + ", digest=" + NatsContainer.getHash(render()) + ']';
+    }
+}
@@ -0,0 +1,79 @@
+package io.testcontainers.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <a href="https://github.com/nats-io/nats.java">jnats</a> connection helpers, requires jnats on classpath.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class NatsClients {
+
+    private NatsClients() {}
+
+    /**
+     * @param startable to get servers for
+     * @return server URLs without credentials, each cluster node is separate server
+     */
+    static List<String> getServers(NatsStartable startable) {
+        if (startable instanceof NatsCluster) {
+            return getServers(((NatsCluster) startable).getHostsAndPorts());
+        } else if (startable instanceof NatsSuperCluster) {
+            return getServers(((NatsSuperCluster) startable).getHostsAndPorts());
+        } else if (startable instanceof NatsLeafNodes) {
+            return getServers(((NatsLeafNodes) startable).getHostsAndPorts());
+        } else if (startable instanceof NatsTestScope) {
+            return getServers(((NatsTestScope) startable).getStartable());
+        }
+
+        final var uri = startable.getURI();
+        return List.of(String.format("nats://%s:%s", uri.getHost(), uri.getPort()));
+    }
+
+    private static List<String> getServers(List<NatsCluster.HostAndPort> hostsAndPorts) {
+        return hostsAndPorts.stream()
+                .map(hp -> String.format("nats://%s:%s", hp.host(), hp.port()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param startable to get credentials from
+     * @param server    to connect to, random server selection is disabled so connection stays on specified server
+     * @return options builder with credentials
+     */
+    static Options.Builder getOptions(NatsStartable startable, String server) {
+        final Options.Builder builder = Options.builder()
+                .server(server)
+                .noRandomize()
+                .connectionTimeout(Duration.ofSeconds(10));
+
+        if (startable.getTls() != null) {
+            builder.sslContext(startable.getTls().getSSLContext());
+        }
+        if (startable.getToken() != null) {
+            builder.token(startable.getToken().toCharArray());
+        } else if (startable.getUsername() != null && startable.getPassword() != null) {
+            builder.userInfo(startable.getUsername(), startable.getPassword());
+        }
+
+        return builder;
+    }
+
+    static Connection connect(Options options) {
+        try {
+            return Nats.connect(options);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed connection for servers: " + options.getServers(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted connection for servers: " + options.getServers(), e);
+        }
+    }
+}
@@ -1,16 +1,41 @@
 package io.testcontainers.nats;
 
+import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.ContainerState;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 /**
  * NATS Cluster TestContainer {@link NatsClusterContainer} Builder.
@@ -23,12 +48,24 @@
  */
 public class NatsCluster implements NatsStartable, Startable, ContainerState {
 
+    public enum StartupMode {
+
+        /**
+         * Leader node is started first and then other nodes are started with leader as route
+         */
+        LEADER,
+        /**
+         * All nodes are started simultaneously and each node has all other nodes as routes
+         */
+        PARALLEL
+    }
+
     public static final class HostAndPort {
 
         private final String host;
         private final int port;
 
-        private HostAndPort(String host, int port) {
+        HostAndPort(String host, int port) {
             this.host = host;
             this.port = port;
         }
@@ -62,10 +99,171 @@ public String toString() {
         }
     }
 
+    /**
+     * Creates node with specified number and routes as host:port addresses for {@link #addNode()}
+     */
+    @FunctionalInterface
+    interface NodeFactory {
+
+        NatsClusterContainer create(int number, List<String> routes);
+    }
+
+    /**
+     * Executor and timeouts used to start and stop nodes
+     */
+    static final class Lifecycle {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+        // node start and stop block on docker calls, so they are not run on common pool
+        private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "nats-cluster-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Executor executor = DEFAULT_EXECUTOR;
+        Duration startTimeout = Duration.ofMinutes(2);
+        Duration routesTimeout = Duration.ofMinutes(2);
+        Duration stopTimeout = Duration.ofMinutes(2);
+
+        /**
+         * Starts startables in parallel and then runs ready check, when any startable fails to start, timeout is
+         * exceeded or ready check fails, all startables are stopped without waiting for other startables and ones
+         * that finish starting afterwards are stopped as well.
+         *
+         * @param startables to start
+         * @param leading    number of first startables started before others, 0 starts all in parallel
+         * @param timeout    for all startables to start
+         * @param operation  used in failure messages, e.g. cluster nodes
+         * @param ready      check run after all startables are started
+         * @param onFailure  called with failure before startables are stopped
+         */
+        void startAll(List<? extends Startable> startables,
+                      int leading,
+                      Duration timeout,
+                      String operation,
+                      Runnable ready,
+                      Consumer<RuntimeException> onFailure) {
+            final AtomicBoolean failed = new AtomicBoolean(false);
+            try {
+                final CompletableFuture<Void> started = startAllAsync(startables.subList(0, leading), failed)
+                        .thenCompose(_r -> startAllAsync(startables.subList(leading, startables.size()), failed));
+                await(started, timeout, operation + " start");
+                ready.run();
+            } catch (RuntimeException e) {
+                failed.set(true);
+                onFailure.accept(e);
+                stopAll(startables, e);
+                throw e;
+            }
+        }
+
+        private CompletableFuture<Void> startAllAsync(List<? extends Startable> startables, AtomicBoolean failed) {
+            final CompletableFuture[] futures = startables.stream()
+                    .map(s -> CompletableFuture.runAsync(() -> {
+                        try {
+                            s.start();
+                        } finally {
+                            // startable finished starting after startup failed and was torn down
+                            if (failed.get()) {
+                                s.stop();
+                            }
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            return allOfFailFast(futures);
+        }
+
+        /**
+         * Stops startables in parallel, failures are added to cause as suppressed
+         */
+        void stopAll(Collection<? extends Startable> startables, RuntimeException cause) {
+            final CompletableFuture[] stopped = startables.stream()
+                    .map(s -> CompletableFuture.runAsync(s::stop, executor))
+                    .toArray(CompletableFuture[]::new);
+            try {
+                await(CompletableFuture.allOf(stopped), stopTimeout, "teardown");
+            } catch (RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+
+        /**
+         * @return future completed when all futures complete or exceptionally as soon as any future fails
+         */
+        static CompletableFuture<Void> allOfFailFast(CompletableFuture<?>[] futures) {
+            final CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+            for (CompletableFuture<?> future : futures) {
+                future.whenComplete((_r, e) -> {
+                    if (e != null) {
+                        all.completeExceptionally(e);
+                    }
+                });
+            }
+            return all;
+        }
+
+        /**
+         * Waits for future, restores interrupt flag and throws when interrupted
+         */
+        static void await(CompletableFuture<?> future, Duration timeout, String operation) {
+            try {
+                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new IllegalStateException("Timed out after " + timeout + " waiting for " + operation, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed waiting for " + operation, e.getCause());
+            }
+        }
+
+        static Duration requirePositive(Duration value, String name) {
+            if (value.isNegative() || value.isZero())
+                throw new IllegalArgumentException(name + " must be positive, but was: " + value);
+            return value;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsCluster.class);
+
+    private static final Duration RECOVERY_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration LAME_DUCK_TIMEOUT = Duration.ofMinutes(3);
+
     private final List<NatsClusterContainer> nodes;
+    private final StartupMode startupMode;
+    private final boolean reuse;
+    @Nullable
+    private final NatsRouteProxy routeProxy;
+    private final Set<String> stoppedNodes = ConcurrentHashMap.newKeySet();
+    private final NodeFactory nodeFactory;
+    private final AtomicInteger nextNode;
+    @Nullable
+    private final Path imageArchive;
+    @Nullable
+    private volatile Duration imagePrepared;
+    @Nullable
+    private volatile NatsClusterStartupReport startupReport;
+    private final Lifecycle lifecycle;
 
-    NatsCluster(List<NatsClusterContainer> nodes) {
-        this.nodes = List.copyOf(nodes);
+    NatsCluster(List<NatsClusterContainer> nodes,
+                StartupMode startupMode,
+                boolean reuse,
+                @Nullable NatsRouteProxy routeProxy,
+                NodeFactory nodeFactory,
+                @Nullable Path imageArchive,
+                Lifecycle lifecycle) {
+        this.nodes = new CopyOnWriteArrayList<>(nodes);
+        this.startupMode = startupMode;
+        this.reuse = reuse;
+        this.routeProxy = routeProxy;
+        this.nodeFactory = nodeFactory;
+        this.nextNode = new AtomicInteger(nodes.size());
+        this.imageArchive = imageArchive;
+        this.lifecycle = lifecycle;
     }
 
     public static NatsClusterBuilder builder(String imageVersion) {
@@ -76,8 +274,84 @@ public static NatsClusterBuilder builder(DockerImageName imageName) {
         return new NatsClusterBuilder(imageName);
     }
 
+    /**
+     * @return current nodes, including nodes added via {@link #addNode()} and excluding removed ones
+     */
     public List<NatsClusterContainer> getNodes() {
-        return nodes;
+        return List.copyOf(nodes);
+    }
+
+    /**
+     * @param alias of node
+     * @return node with specified alias
+     */
+    public NatsClusterContainer getNode(String alias) {
+        return nodes.stream()
+                .filter(node -> node.getAlias().equals(alias))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Node not found: " + alias));
+    }
+
+    /**
+     * @return nodes that are not stopped or killed via node operations
+     */
+    public List<NatsClusterContainer> getRunningNodes() {
+        return nodes.stream()
+                .filter(node -> !stoppedNodes.contains(node.getAlias()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return startup time of cluster and each node for last cluster start
+     */
+    public NatsClusterStartupReport getStartupReport() {
+        final NatsClusterStartupReport report = this.startupReport;
+        if (report == null)
+            throw new IllegalStateException("Cluster is not started");
+
+        return report;
+    }
+
+    public StartupMode getStartupMode() {
+        return startupMode;
+    }
+
+    public boolean isReuse() {
+        return reuse;
+    }
+
+    /**
+     * @return all proxied routes between nodes, available after cluster is started
+     * @see NatsClusterBuilder#withRouteProxy()
+     */
+    public List<NatsRouteLink> getRouteLinks() {
+        if (routeProxy == null)
+            throw new IllegalStateException("Route proxy is not enabled, see NatsClusterBuilder#withRouteProxy()");
+
+        return routeProxy.getLinks();
+    }
+
+    /**
+     * @param alias of node
+     * @return proxied routes between specified node and all other nodes, e.g. to partition node from cluster
+     */
+    public List<NatsRouteLink> getRouteLinks(String alias) {
+        return getRouteLinks().stream()
+                .filter(link -> link.connects(alias))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param alias      of node
+     * @param otherAlias of other node
+     * @return proxied route between specified nodes
+     */
+    public NatsRouteLink getRouteLink(String alias, String otherAlias) {
+        return getRouteLinks().stream()
+                .filter(link -> link.connects(alias, otherAlias))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Route not found between: " + alias + " and " + otherAlias));
     }
 
     @Nullable
@@ -96,31 +370,345 @@ public String getToken() {
     }
 
     public URI getURI() {
-        return nodes.get(0).getURI();
+        return getFirstRunningNode().getURI();
+    }
+
+    @Nullable
+    @Override
+    public NatsTls getTls() {
+        return nodes.get(0).getTls();
     }
 
     public URI getMonitoringURI() {
-        return nodes.get(0).getMonitoringURI();
+        return getFirstRunningNode().getMonitoringURI();
+    }
+
+    public NatsMonitoring getMonitoring() {
+        return getFirstRunningNode().getMonitoring();
+    }
+
+    /**
+     * Requests monitoring snapshot from all running nodes in parallel
+     *
+     * @param snapshot async snapshot request, e.g. {@link NatsMonitoring#varzAsync()}
+     * @return snapshots by node alias in nodes order
+     * @param <T> snapshot type
+     */
+    public <T> Map<String, T> getNodesMonitoring(Function<NatsMonitoring, CompletableFuture<T>> snapshot) {
+        return getMonitoring(getRunningNodes(), snapshot);
+    }
+
+    /**
+     * Snapshots JetStream file store of all nodes to directory after publishing is complete, all nodes are frozen
+     * while stores are archived, so snapshot is consistent across nodes
+     *
+     * @param directory to store snapshot archives and manifest in
+     * @return snapshot that can be used via {@link NatsClusterBuilder#withJetStreamSnapshot(NatsJetStreamSnapshot)}
+     */
+    public NatsJetStreamSnapshot snapshotJetStream(Path directory) {
+        if (!stoppedNodes.isEmpty())
+            throw new IllegalStateException("JetStream snapshot requires all nodes running, but stopped: "
+                    + stoppedNodes);
+
+        final List<NatsClusterContainer> nodes = getNodes();
+        return NatsJetStreamSnapshot.take(directory, nodes, nodes.get(0).getClusterId());
+    }
+
+    /**
+     * Logs buffered log lines of each node, does nothing for nodes without log buffer
+     *
+     * @see NatsClusterBuilder#withLogBuffer(int)
+     */
+    public void dumpLogs() {
+        getNodes().forEach(NatsContainer::dumpLogs);
+    }
+
+    /**
+     * Stops node gracefully with SIGTERM and removes it, node can be started again via {@link #startNode(String)}
+     *
+     * @param alias of node
+     * @return recovery of remaining nodes
+     */
+    public NatsRecoveryReport stopNode(String alias) {
+        final NatsClusterContainer node = getNode(alias);
+        return disrupt(NatsRecoveryReport.Operation.STOP, node, () -> {
+            stopGracefully(node);
+            stoppedNodes.add(alias);
+        });
+    }
+
+    /**
+     * Kills node with SIGKILL and removes it, node can be started again via {@link #startNode(String)}
+     *
+     * @param alias of node
+     * @return recovery of remaining nodes
+     */
+    public NatsRecoveryReport killNode(String alias) {
+        final NatsClusterContainer node = getNode(alias);
+        return disrupt(NatsRecoveryReport.Operation.KILL, node, () -> {
+            node.getDockerClient().killContainerCmd(node.getContainerId()).withSignal("KILL").exec();
+            node.stop();
+            stoppedNodes.add(alias);
+        });
+    }
+
+    /**
+     * Starts previously stopped or killed node as new container with same alias, JetStream data is kept only for
+     * {@link NatsJetStream.Storage#VOLUME} storage
+     *
+     * @param alias of node
+     * @return recovery of all nodes
+     */
+    public NatsRecoveryReport startNode(String alias) {
+        final NatsClusterContainer node = getNode(alias);
+        return disrupt(NatsRecoveryReport.Operation.START, node, () -> {
+            node.start();
+            stoppedNodes.remove(alias);
+        });
+    }
+
+    /**
+     * Stops node gracefully and starts it again as new container with same alias
+     *
+     * @param alias of node
+     * @return recovery of all nodes
+     */
+    public NatsRecoveryReport restartNode(String alias) {
+        final NatsClusterContainer node = getNode(alias);
+        return disrupt(NatsRecoveryReport.Operation.RESTART, node, () -> {
+            stopGracefully(node);
+            node.start();
+        });
+    }
+
+    /**
+     * Freezes node via docker pause for specified duration and unpauses it
+     *
+     * @param alias    of node
+     * @param duration node stays paused
+     * @return recovery of all nodes
+     */
+    public NatsRecoveryReport pauseNode(String alias, Duration duration) {
+        final NatsClusterContainer node = getNode(alias);
+        return disrupt(NatsRecoveryReport.Operation.PAUSE, node, () -> {
+            node.getDockerClient().pauseContainerCmd(node.getContainerId()).exec();
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while node is paused: " + alias, e);
+            } finally {
+                node.getDockerClient().unpauseContainerCmd(node.getContainerId()).exec();
+            }
+        });
+    }
+
+    /**
+     * Starts new node with all running nodes as routes and returns only when each running node has routes to all
+     * other running nodes, new node gets cluster configuration and next node number
+     *
+     * @return added node
+     */
+    public NatsClusterContainer addNode() {
+        if (routeProxy != null)
+            throw new IllegalStateException("Nodes can not be added to cluster with route proxy");
+        if (reuse)
+            throw new IllegalStateException("Nodes can not be added to reusable cluster");
+
+        final List<String> routes = getRunningNodes().stream()
+                .map(node -> node.getAlias() + ":" + NatsContainer.PORT_ROUTING)
+                .collect(Collectors.toList());
+
+        final NatsClusterContainer node = nodeFactory.create(nextNode.getAndIncrement(), routes);
+        node.start();
+        nodes.add(node);
+
+        await(waitForRoutesAsync(getRunningNodes()), lifecycle.routesTimeout,
+                "routes to added node " + node.getAlias());
+        return node;
+    }
+
+    /**
+     * Puts node into lame duck mode with SIGUSR2, so it stops accepting clients and gradually closes existing ones
+     * for them to reconnect to other nodes, waits until node exits, removes it from cluster and returns only when
+     * remaining nodes have routes to each other.
+     * <p>
+     * Drain takes {@link NatsConfig#withLameDuckDuration(Duration)} which is 2 minutes by default.
+     *
+     * @param alias of node, leader node can not be removed
+     */
+    public void removeNode(String alias) {
+        final NatsClusterContainer node = getNode(alias);
+        if (node == nodes.get(0))
+            throw new IllegalArgumentException("Leader node can not be removed: " + alias);
+
+        if (!stoppedNodes.contains(alias)) {
+            node.getDockerClient().killContainerCmd(node.getContainerId()).withSignal("USR2").exec();
+            waitForExit(node);
+        }
+
+        node.stop();
+        nodes.remove(node);
+        stoppedNodes.remove(alias);
+
+        await(waitForRoutesAsync(getRunningNodes()), lifecycle.routesTimeout, "routes after removal of " + alias);
+    }
+
+    private static void waitForExit(NatsClusterContainer node) {
+        final long deadline = System.nanoTime() + LAME_DUCK_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            final Boolean running = node.getDockerClient().inspectContainerCmd(node.getContainerId()).exec()
+                    .getState()
+                    .getRunning();
+            if (!Boolean.TRUE.equals(running)) {
+                return;
+            }
+
+            try {
+                Thread.sleep(RECOVERY_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while node is in lame duck mode: " + node.getAlias(), e);
+            }
+        }
+
+        throw new IllegalStateException("Timed out waiting for node to exit lame duck mode: " + node.getAlias());
+    }
+
+    private static void stopGracefully(NatsClusterContainer node) {
+        node.getDockerClient().stopContainerCmd(node.getContainerId()).withTimeout(30).exec();
+        node.stop();
+    }
+
+    private NatsRecoveryReport disrupt(NatsRecoveryReport.Operation operation,
+                                       NatsClusterContainer node,
+                                       Runnable action) {
+        if (operation != NatsRecoveryReport.Operation.START && stoppedNodes.contains(node.getAlias()))
+            throw new IllegalStateException("Node is stopped: " + node.getAlias());
+        if (operation == NatsRecoveryReport.Operation.START && !stoppedNodes.contains(node.getAlias()))
+            throw new IllegalStateException("Node is not stopped: " + node.getAlias());
+
+        final List<NatsClusterContainer> runningBefore = getRunningNodes();
+        final int connectionsBefore = getMonitoring(runningBefore, NatsMonitoring::varzAsync).values().stream()
+                .mapToInt(NatsMonitoring.Varz::getConnections)
+                .sum();
+        final boolean jetStream = node.getJetStream() != null;
+        final String metaLeaderBefore = (jetStream && !runningBefore.isEmpty())
+                ? runningBefore.get(0).getMonitoring().jsz().getMetaLeader()
+                : null;
+        // stale routes to stopped or restarted server still count as remote servers until they are closed,
+        // paused server keeps its process and server id, so its recovery is measured by remote servers count
+        final boolean routesRemoved = operation == NatsRecoveryReport.Operation.STOP
+                || operation == NatsRecoveryReport.Operation.KILL;
+        final String serverIdBefore = (routesRemoved || operation == NatsRecoveryReport.Operation.RESTART)
+                ? node.getMonitoring().varz().getServerId()
+                : null;
+
+        final long started = System.nanoTime();
+        action.run();
+        final Duration disruption = Duration.ofNanos(System.nanoTime() - started);
+
+        final List<NatsClusterContainer> running = getRunningNodes();
+        final Set<String> runningAliases = running.stream()
+                .map(NatsClusterContainer::getAlias)
+                .collect(Collectors.toSet());
+
+        final long deadline = started + lifecycle.routesTimeout.toNanos();
+        Duration routesRecovered = null;
+        Duration clientsReconnected = null;
+        Duration metaLeaderElected = null;
+        String metaLeaderAfter = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                if (routesRecovered == null) {
+                    final Collection<NatsMonitoring.Routez> routez = getMonitoring(running,
+                            NatsMonitoring::routezAsync).values();
+                    final boolean staleRemoved = serverIdBefore == null || routez.stream()
+                            .flatMap(r -> r.getRoutes().stream())
+                            .noneMatch(route -> serverIdBefore.equals(route.getRemoteId()));
+                    final boolean routed = staleRemoved && (routesRemoved || routez.stream()
+                            .allMatch(r -> r.getRemoteServers() >= running.size() - 1));
+                    if (routed) {
+                        routesRecovered = Duration.ofNanos(System.nanoTime() - started);
+                    }
+                }
+
+                if (clientsReconnected == null) {
+                    final int connections = getMonitoring(running, NatsMonitoring::varzAsync).values().stream()
+                            .mapToInt(NatsMonitoring.Varz::getConnections)
+                            .sum();
+                    if (connections >= connectionsBefore) {
+                        clientsReconnected = Duration.ofNanos(System.nanoTime() - started);
+                    }
+                }
+
+                if (jetStream && metaLeaderElected == null) {
+                    final Set<String> leaders = getMonitoring(running, NatsMonitoring::jszAsync).values().stream()
+                            .map(jsz -> String.valueOf(jsz.getMetaLeader()))
+                            .collect(Collectors.toSet());
+                    if (leaders.size() == 1 && runningAliases.containsAll(leaders)) {
+                        metaLeaderElected = Duration.ofNanos(System.nanoTime() - started);
+                        metaLeaderAfter = leaders.iterator().next();
+                    }
+                }
+
+                final boolean recovered = routesRecovered != null && clientsReconnected != null
+                        && (!jetStream || metaLeaderElected != null);
+                if (recovered) {
+                    return new NatsRecoveryReport(operation, node.getAlias(), disruption, routesRecovered,
+                            clientsReconnected, metaLeaderElected, metaLeaderBefore, metaLeaderAfter);
+                }
+            } catch (IllegalStateException e) {
+                // node is not reachable yet
+            }
+
+            try {
+                Thread.sleep(RECOVERY_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for cluster recovery", e);
+            }
+        }
+
+        throw new IllegalStateException(String.format(
+                "Timed out waiting for cluster recovery after %s of node %s, routes recovered: %s, "
+                        + "clients reconnected: %s, meta leader elected: %s",
+                operation, node.getAlias(), routesRecovered, clientsReconnected, metaLeaderElected));
+    }
+
+    private static <T> Map<String, T> getMonitoring(List<NatsClusterContainer> nodes,
+                                                    Function<NatsMonitoring, CompletableFuture<T>> snapshot) {
+        final Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (NatsClusterContainer node : nodes) {
+            futures.put(node.getAlias(), snapshot.apply(node.getMonitoring()));
+        }
+
+        final Map<String, T> snapshots = new LinkedHashMap<>();
+        futures.forEach((alias, future) -> snapshots.put(alias, NatsMonitoring.join(future)));
+        return snapshots;
     }
 
     public String getHost() {
-        return nodes.get(0).getHost();
+        return getFirstRunningNode().getHost();
     }
 
     public int getPort() {
-        return nodes.get(0).getPort();
+        return getFirstRunningNode().getPort();
     }
 
     public int getPortRouting() {
-        return nodes.get(0).getPortRouting();
+        return getFirstRunningNode().getPortRouting();
     }
 
     public int getPortMonitoring() {
-        return nodes.get(0).getPortMonitoring();
+        return getFirstRunningNode().getPortMonitoring();
     }
 
+    /**
+     * @return client addresses of running nodes, nodes stopped via node operations have no mapped ports
+     */
     public List<HostAndPort> getHostsAndPorts() {
-        return nodes.stream()
+        return getRunningNodes().stream()
                 .map(c -> new HostAndPort(c.getHost(), c.getPort()))
                 .collect(Collectors.toList());
     }
@@ -132,41 +720,166 @@ public List<Integer> getExposedPorts() {
 
     @Override
     public InspectContainerResponse getContainerInfo() {
-        return nodes.get(0).getContainerInfo();
+        return getFirstRunningNode().getContainerInfo();
+    }
+
+    /**
+     * @return first node that is not stopped or killed via node operations, cluster level accessors delegate to it
+     */
+    private NatsClusterContainer getFirstRunningNode() {
+        return getRunningNodes().stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("All nodes are stopped: " + stoppedNodes));
+    }
+
+    /**
+     * Resolves nodes image once, so nodes started in parallel do not pull same image concurrently, image is loaded
+     * from archive instead of pulling when specified via {@link NatsClusterBuilder#withImageArchive(Path)}.
+     * <p>
+     * Called on {@link #start()}, can be called earlier to exclude image pull from cluster startup.
+     */
+    public void prepare() {
+        if (imagePrepared != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (imagePrepared != null) {
+                return;
+            }
+
+            final long started = System.nanoTime();
+            final NatsClusterContainer leader = nodes.get(0);
+            if (imageArchive != null) {
+                loadImage(leader.getDockerClient(), leader.getDockerImageName(), imageArchive);
+            }
+
+            // first node pulls image if required, other nodes find it in local images cache
+            getNodes().forEach(NatsContainer::getDockerImageName);
+            this.imagePrepared = Duration.ofNanos(System.nanoTime() - started);
+            logger.info("Cluster image {} prepared in {}", leader.getDockerImageName(), imagePrepared);
+        }
     }
 
+    private static void loadImage(DockerClient client, String image, Path archive) {
+        if (isImagePresent(client, image)) {
+            return;
+        }
+
+        try (InputStream stream = Files.newInputStream(archive)) {
+            client.loadImageCmd(stream).exec();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load image from archive: " + archive, e);
+        }
+
+        if (!isImagePresent(client, image))
+            throw new IllegalStateException("Image " + image + " is not found in archive: " + archive);
+    }
+
+    private static boolean isImagePresent(DockerClient client, String image) {
+        try {
+            client.inspectImageCmd(image).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts cluster nodes according to {@link StartupMode} and returns only when each node is healthy and has
+     * routes to all other nodes, reused cluster is verified the same way.
+     * <p>
+     * When any node fails to start or timeout is exceeded, all nodes are stopped without waiting for other nodes.
+     */
     @Override
     public void start() {
+        prepare();
+
+        final List<NatsClusterContainer> nodes = getNodes();
         try {
-            CompletableFuture.runAsync(() -> nodes.get(0).start())
-                    .thenCompose(_r -> {
-                        final CompletableFuture[] otherFutures = nodes.subList(1, nodes.size()).stream()
-                                .map(c -> CompletableFuture.runAsync(c::start))
-                                .toArray(CompletableFuture[]::new);
-                        return CompletableFuture.allOf(otherFutures);
-                    })
-                    .get(2, TimeUnit.MINUTES);
-        } catch (InterruptedException e) {
-            // do nothing
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
+            if (routeProxy != null) {
+                routeProxy.start();
+            }
+
+            final long startedAt = System.nanoTime();
+            final AtomicLong nodesStartedAt = new AtomicLong();
+            lifecycle.startAll(nodes, (startupMode == StartupMode.PARALLEL) ? 0 : 1, lifecycle.startTimeout,
+                    "cluster nodes", () -> {
+                        nodesStartedAt.set(System.nanoTime());
+                        await(waitForRoutesAsync(nodes), lifecycle.routesTimeout, "routes");
+                    }, e -> {
+                        logger.warn("Cluster startup failed, stopping {} nodes: {}", nodes.size(), e.getMessage());
+                        // nodes that failed to start already dumped their logs
+                        nodes.stream()
+                                .filter(NatsContainer::isRunning)
+                                .forEach(NatsContainer::dumpLogs);
+                    });
+
+            final long routesFormedAt = System.nanoTime();
+            final Map<String, NatsStartupReport> reports = new LinkedHashMap<>();
+            nodes.forEach(node -> reports.put(node.getAlias(), node.getStartupReport()));
+            final NatsClusterStartupReport report = new NatsClusterStartupReport(
+                    imagePrepared,
+                    Duration.ofNanos(routesFormedAt - startedAt),
+                    Duration.ofNanos(nodesStartedAt.get() - startedAt),
+                    Duration.ofNanos(routesFormedAt - nodesStartedAt.get()),
+                    reports);
+            this.startupReport = report;
+            logger.info("Cluster of {} nodes started in {}, nodes started in {}, routes formed in {}, "
+                    + "slowest node {}", nodes.size(), report.getTotal(), report.getNodesStarted(),
+                    report.getRoutesFormed(), report.getSlowestNode());
+        } catch (RuntimeException e) {
+            if (routeProxy != null) {
+                try {
+                    routeProxy.stop();
+                } catch (RuntimeException stopException) {
+                    e.addSuppressed(stopException);
+                }
+            }
+            throw e;
         }
     }
 
+    private CompletableFuture<Void> waitForRoutesAsync(List<NatsClusterContainer> nodes) {
+        final int routes = nodes.size() - 1;
+        final CompletableFuture[] futures = nodes.stream()
+                .map(c -> CompletableFuture.runAsync(() -> new NatsRoutesWaitStrategy(routes)
+                        .withStartupTimeout(lifecycle.routesTimeout)
+                        .waitUntilReady(c), lifecycle.executor))
+                .toArray(CompletableFuture[]::new);
+        return allOfFailFast(futures);
+    }
+
+    private static CompletableFuture<Void> allOfFailFast(CompletableFuture<?>[] futures) {
+        return Lifecycle.allOfFailFast(futures);
+    }
+
+    private static void await(CompletableFuture<?> future, Duration timeout, String operation) {
+        Lifecycle.await(future, timeout, "cluster " + operation);
+    }
+
+    /**
+     * Stops cluster nodes, reusable cluster is kept running when environment supports reuse
+     */
     @Override
     public void stop() {
+        if (reuse && TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+            return;
+        }
+
+        final List<NatsClusterContainer> nodes = getNodes();
         try {
             final CompletableFuture[] otherFutures = nodes.subList(1, nodes.size()).stream()
-                    .map(c -> CompletableFuture.runAsync(c::stop))
+                    .map(c -> CompletableFuture.runAsync(c::stop, lifecycle.executor))
                     .toArray(CompletableFuture[]::new);
 
-            CompletableFuture.allOf(otherFutures)
-                    .thenRun(() -> nodes.get(0).stop())
-                    .get(2, TimeUnit.MINUTES);
-        } catch (InterruptedException e) {
-            // do nothing
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
+            final CompletableFuture<Void> stopped = CompletableFuture.allOf(otherFutures)
+                    .thenRunAsync(() -> nodes.get(0).stop(), lifecycle.executor);
+            await(stopped, lifecycle.stopTimeout, "stop");
+        } finally {
+            if (routeProxy != null) {
+                routeProxy.stop();
+            }
         }
     }
 }
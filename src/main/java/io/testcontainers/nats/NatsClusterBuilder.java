@@ -1,11 +1,16 @@
 package io.testcontainers.nats;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.jetbrains.annotations.Nullable;
 import org.testcontainers.containers.Network;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
@@ -22,18 +27,49 @@
 public class NatsClusterBuilder {
 
     private static final int NODES_DEFAULT = 3;
+    private static final String ROUTE_PROXY_IMAGE_DEFAULT = "ghcr.io/shopify/toxiproxy:2.5.0";
 
     private final DockerImageName image;
 
-    private int nodes = NODES_DEFAULT;
+    // leader included
+    private int nodes = NODES_DEFAULT + 1;
     private final NatsClusterContainer.Auth auth = new NatsClusterContainer.Auth();
+    private final NatsCluster.Lifecycle lifecycle = new NatsCluster.Lifecycle();
+    @Nullable
+    private NatsJetStream jetStream;
+    private NatsCluster.StartupMode startupMode = NatsCluster.StartupMode.LEADER;
+    private boolean reuse = false;
+    @Nullable
+    private DockerImageName routeProxyImage;
+    @Nullable
+    private NatsConfig config;
+    private final Map<Integer, NatsConfig> nodeConfigs = new TreeMap<>();
+    @Nullable
+    private NatsResources resources;
+    private final Map<Integer, NatsResources> nodeResources = new TreeMap<>();
+    @Nullable
+    private Path imageArchive;
+    @Nullable
+    private String clusterId;
+    private boolean leafNodes = false;
+    @Nullable
+    private Integer logBufferLines;
+    @Nullable
+    private NatsJetStreamSnapshot jetStreamSnapshot;
+    @Nullable
+    private NatsTls tls;
 
     NatsClusterBuilder(DockerImageName image) {
         this.image = image;
     }
 
-    public NatsClusterBuilder withNodes(int coordinatorNodes) {
-        this.nodes = coordinatorNodes;
+    /**
+     * @param nodes number of nodes started in addition to leader, so <b>withNodes(3)</b> builds leader and 3 other
+     *                  nodes, 3 by default
+     * @return self
+     */
+    public NatsClusterBuilder withNodes(int nodes) {
+        this.nodes = nodes + 1;
         return this;
     }
 
@@ -52,36 +88,384 @@ public NatsClusterBuilder withUsernameAndPassword(String username, String passwo
         return this;
     }
 
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/configuration/clustering/jetstream_clustering">JetStream
+     * cluster</a>
+     *
+     * @param jetStream storage configuration applied to each node
+     * @return self
+     */
+    public NatsClusterBuilder withJetStream(NatsJetStream jetStream) {
+        this.jetStream = jetStream;
+        return this;
+    }
+
+    /**
+     * @param tls for client connections of each node and for routes between nodes if enabled, certificate for each
+     *                node is generated on node start
+     * @return self
+     */
+    public NatsClusterBuilder withTls(NatsTls tls) {
+        this.tls = Objects.requireNonNull(tls);
+        return this;
+    }
+
+    /**
+     * @param config server configuration applied to each node
+     * @return self
+     */
+    public NatsClusterBuilder withConfig(NatsConfig config) {
+        this.config = Objects.requireNonNull(config);
+        return this;
+    }
+
+    /**
+     * @param node   number of node, leader is 0 and other nodes are numbered from 1
+     * @param config server configuration which values override {@link #withConfig(NatsConfig)} for specified node
+     * @return self
+     */
+    public NatsClusterBuilder withNodeConfig(int node, NatsConfig config) {
+        this.nodeConfigs.put(node, Objects.requireNonNull(config));
+        return this;
+    }
+
+    /**
+     * @param resources CPU and memory limits applied to each node, so benchmark results do not depend on host load
+     * @return self
+     */
+    public NatsClusterBuilder withResources(NatsResources resources) {
+        this.resources = Objects.requireNonNull(resources);
+        return this;
+    }
+
+    /**
+     * @param node      number of node, leader is 0 and other nodes are numbered from 1
+     * @param resources resources which values override {@link #withResources(NatsResources)} for specified node
+     * @return self
+     */
+    public NatsClusterBuilder withNodeResources(int node, NatsResources resources) {
+        this.nodeResources.put(node, Objects.requireNonNull(resources));
+        return this;
+    }
+
+    /**
+     * Image is loaded from archive produced by <b>docker save</b> if it is not present locally and is never pulled,
+     * e.g. for offline CI runners.
+     *
+     * @param imageArchive path to image tarball
+     * @return self
+     * @see NatsCluster#prepare()
+     */
+    public NatsClusterBuilder withImageArchive(Path imageArchive) {
+        this.imageArchive = Objects.requireNonNull(imageArchive);
+        return this;
+    }
+
+    /**
+     * Starts nodes with JetStream stores restored from snapshot, cluster id and node aliases are taken from snapshot
+     * as JetStream state refers to server names, so cluster snapshot was taken from must be stopped or use other
+     * network. Number of nodes must match snapshot, JetStream must be enabled and cluster can not be reused.
+     *
+     * @param snapshot taken via {@link NatsCluster#snapshotJetStream(Path)}
+     * @return self
+     */
+    public NatsClusterBuilder withJetStreamSnapshot(NatsJetStreamSnapshot snapshot) {
+        this.jetStreamSnapshot = Objects.requireNonNull(snapshot);
+        return this;
+    }
+
+    /**
+     * Each node accepts <a href="https://docs.nats.io/running-a-nats-service/configuration/leafnodes">leaf node</a>
+     * connections on {@link NatsContainer#PORT_LEAF_NODES}
+     *
+     * @return self
+     * @see NatsLeafNodes
+     */
+    public NatsClusterBuilder withLeafNodes() {
+        this.leafNodes = true;
+        return this;
+    }
+
+    /**
+     * Each node keeps last log lines in memory instead of streaming each line to SLF4J, buffered lines are logged
+     * when cluster fails to start or on {@link NatsCluster#dumpLogs()}, dumping logs on test failure is left to
+     * caller unless cluster is started via {@link NatsShared}
+     *
+     * @param lines number of last log lines to keep per node
+     * @return self
+     * @see NatsContainer#withLogBuffer(int)
+     */
+    public NatsClusterBuilder withLogBuffer(int lines) {
+        if (lines < 1)
+            throw new IllegalArgumentException("Log buffer lines can not be less 1, but was: " + lines);
+        this.logBufferLines = lines;
+        return this;
+    }
+
+    /**
+     * @param startupMode cluster nodes startup mode, {@link NatsCluster.StartupMode#LEADER} by default
+     * @return self
+     */
+    public NatsClusterBuilder withStartupMode(NatsCluster.StartupMode startupMode) {
+        this.startupMode = Objects.requireNonNull(startupMode);
+        return this;
+    }
+
+    /**
+     * Reusable cluster derives cluster id, node names, aliases and network name from configuration hash, so
+     * cluster started in previous run is attached instead of starting new one.
+     * <p>
+     * Requires <b>testcontainers.reuse.enable=true</b> in <b>~/.testcontainers.properties</b>, reusable cluster
+     * is not stopped on {@link NatsCluster#stop()}.
+     * Random values such as {@link #withAuthTokenRandom()} change configuration hash and prevent reuse.
+     *
+     * @param reuse cluster across runs
+     * @return self
+     * @see org.testcontainers.containers.GenericContainer#withReuse(boolean)
+     */
+    public NatsClusterBuilder withReuse(boolean reuse) {
+        this.reuse = reuse;
+        return this;
+    }
+
+    /**
+     * @param executor used to start, stop and await nodes, e.g. virtual thread per task executor, cached daemon thread
+     *                     pool shared by clusters is used by default
+     * @return self
+     */
+    public NatsClusterBuilder withExecutor(Executor executor) {
+        this.lifecycle.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * @param startTimeout for all nodes to start according to {@link NatsCluster.StartupMode}, 2 minutes by default
+     * @return self
+     */
+    public NatsClusterBuilder withStartTimeout(Duration startTimeout) {
+        this.lifecycle.startTimeout = NatsCluster.Lifecycle.requirePositive(startTimeout, "Start timeout");
+        return this;
+    }
+
+    /**
+     * @param routesTimeout for each started node to have routes to all other nodes, 2 minutes by default
+     * @return self
+     */
+    public NatsClusterBuilder withRoutesTimeout(Duration routesTimeout) {
+        this.lifecycle.routesTimeout = NatsCluster.Lifecycle.requirePositive(routesTimeout, "Routes timeout");
+        return this;
+    }
+
+    /**
+     * @param stopTimeout for all nodes to stop, 2 minutes by default
+     * @return self
+     */
+    public NatsClusterBuilder withStopTimeout(Duration stopTimeout) {
+        this.lifecycle.stopTimeout = NatsCluster.Lifecycle.requirePositive(stopTimeout, "Stop timeout");
+        return this;
+    }
+
+    /**
+     * Routes between each pair of nodes go through <a href="https://github.com/Shopify/toxiproxy">Toxiproxy</a>,
+     * so latency, bandwidth limit and partition can be added per route at runtime via
+     * {@link NatsCluster#getRouteLinks()}.
+     * <p>
+     * Requires <b>org.testcontainers:toxiproxy</b> on classpath, can not be combined with {@link #withReuse(boolean)}.
+     *
+     * @return self
+     */
+    public NatsClusterBuilder withRouteProxy() {
+        return withRouteProxy(DockerImageName.parse(ROUTE_PROXY_IMAGE_DEFAULT));
+    }
+
+    public NatsClusterBuilder withRouteProxy(String image) {
+        return withRouteProxy(DockerImageName.parse(image));
+    }
+
+    public NatsClusterBuilder withRouteProxy(DockerImageName image) {
+        this.routeProxyImage = Objects.requireNonNull(image);
+        return this;
+    }
+
+    /**
+     * @param clusterId used for cluster name and node aliases instead of generated one
+     * @return self
+     */
+    NatsClusterBuilder withClusterId(String clusterId) {
+        this.clusterId = Objects.requireNonNull(clusterId);
+        return this;
+    }
+
     public NatsCluster build() {
         return build(null);
     }
 
     public NatsCluster build(@Nullable Network network) {
-        return new NatsCluster(buildContainers(network));
-    }
-
-    private List<NatsClusterContainer> buildContainers(@Nullable Network network) {
         if (image == null)
             throw new UnsupportedOperationException("Image version can not be empty!");
         if (nodes < 2)
-            throw new IllegalArgumentException("Nodes can not be less 2");
+            throw new IllegalArgumentException("Nodes can not be less 1 in addition to leader");
+        if (reuse && routeProxyImage != null)
+            throw new IllegalArgumentException("Route proxy can not be used with reusable cluster");
+        if (reuse && tls != null)
+            throw new IllegalArgumentException("TLS can not be used with reusable cluster");
+        if (reuse && jetStreamSnapshot != null)
+            throw new IllegalArgumentException("JetStream snapshot can not be used with reusable cluster, "
+                    + "cluster id is taken from snapshot instead of configuration hash");
+        if (tls != null && tls.isRoutes() && routeProxyImage != null)
+            throw new IllegalArgumentException("Route TLS can not be used with route proxy, "
+                    + "node certificates are not valid for proxy addresses");
+        if (imageArchive != null && !Files.isRegularFile(imageArchive))
+            throw new IllegalArgumentException("Image archive not found: " + imageArchive);
+        if (nodeConfigs.keySet().stream().anyMatch(node -> node < 0 || node >= nodes))
+            throw new IllegalArgumentException("Node config specified for nodes " + nodeConfigs.keySet()
+                    + " while cluster has nodes from 0 to " + (nodes - 1));
+        if (nodeResources.keySet().stream().anyMatch(node -> node < 0 || node >= nodes))
+            throw new IllegalArgumentException("Node resources specified for nodes " + nodeResources.keySet()
+                    + " while cluster has nodes from 0 to " + (nodes - 1));
+
+        if (jetStreamSnapshot != null) {
+            if (jetStream == null)
+                throw new IllegalArgumentException("JetStream snapshot requires JetStream to be enabled");
+            if (jetStreamSnapshot.getClusterId() == null)
+                throw new IllegalArgumentException("JetStream snapshot was taken from single container, "
+                        + "but cluster snapshot is required: " + jetStreamSnapshot);
+            if (jetStreamSnapshot.getServers().size() != nodes)
+                throw new IllegalArgumentException("JetStream snapshot contains "
+                        + jetStreamSnapshot.getServers().size() + " nodes, but cluster has " + nodes + " nodes");
+            if (this.clusterId != null && !this.clusterId.equals(jetStreamSnapshot.getClusterId()))
+                throw new IllegalArgumentException("Cluster id " + this.clusterId
+                        + " differs from JetStream snapshot cluster id " + jetStreamSnapshot.getClusterId());
+        }
+
+        final String clusterId;
+        if (this.clusterId != null) {
+            clusterId = this.clusterId;
+        } else if (jetStreamSnapshot != null) {
+            clusterId = jetStreamSnapshot.getClusterId();
+        } else if (reuse) {
+            clusterId = NatsContainer.getHash(image.asCanonicalNameString(), nodes, auth.token, auth.username,
+                    auth.password, jetStream, startupMode, config, nodeConfigs, leafNodes, resources, nodeResources);
+        } else {
+            clusterId = RandomStringUtils.randomAlphanumeric(8);
+        }
+
+        final Network clusterNetwork;
+        if (network != null) {
+            clusterNetwork = network;
+        } else if (reuse) {
+            clusterNetwork = new NatsReusableNetwork("nats-" + clusterId);
+        } else {
+            clusterNetwork = Network.SHARED;
+        }
 
-        final String clusterId = RandomStringUtils.randomAlphanumeric(8);
-        final NatsClusterContainer leader = NatsClusterContainer.master(image, clusterId, auth);
+        final List<String> aliases = new ArrayList<>(this.nodes);
+        aliases.add(NatsClusterContainer.NodeType.LEADER.alias(clusterId, 0));
+        for (int i = 1; i < this.nodes; i++) {
+            aliases.add(NatsClusterContainer.NodeType.NODE.alias(clusterId, i));
+        }
+
+        final NatsRouteProxy routeProxy = (routeProxyImage == null)
+                ? null
+                : new NatsRouteProxy(routeProxyImage, clusterId, aliases, clusterNetwork);
+
+        final List<NatsClusterContainer> containers = buildContainers(clusterId, aliases, clusterNetwork, routeProxy);
+        final NatsCluster.NodeFactory nodeFactory = (number, routes) -> buildNode(clusterId, number, routes,
+                clusterNetwork, false);
+        return new NatsCluster(containers, startupMode, reuse, routeProxy, nodeFactory, imageArchive,
+                lifecycle);
+    }
+
+    private List<NatsClusterContainer> buildContainers(String clusterId,
+                                                       List<String> aliases,
+                                                       Network network,
+                                                       @Nullable NatsRouteProxy routeProxy) {
+        // In parallel mode every node gets whole mesh as routes, so nodes do not depend on each other
+        final boolean parallel = startupMode == NatsCluster.StartupMode.PARALLEL;
+        final NatsClusterContainer leader = buildNode(clusterId, 0,
+                getRoutes(aliases, aliases.get(0), parallel, routeProxy), network, routeProxy != null);
+
+        final List<NatsClusterContainer> containers = new ArrayList<>(this.nodes);
+        containers.add(leader);
+        for (int i = 1; i < this.nodes; i++) {
+            final NatsClusterContainer node = buildNode(clusterId, i,
+                    getRoutes(aliases, aliases.get(i), parallel, routeProxy), network, routeProxy != null);
+            if (!parallel) {
+                node.dependsOn(leader);
+            }
+            containers.add(node);
+        }
+        return List.copyOf(containers);
+    }
+
+    private NatsClusterContainer buildNode(String clusterId,
+                                           int number,
+                                           List<String> routes,
+                                           Network network,
+                                           boolean routeProxy) {
+        final NatsClusterContainer node = (number == 0)
+                ? NatsClusterContainer.master(image, clusterId, auth, jetStream, routes)
+                : NatsClusterContainer.slave(image, clusterId, auth, jetStream, number, routes);
+        node.withNetwork(network);
+        if (imageArchive != null) {
+            node.withImagePullPolicy(imageName -> false);
+        }
+
+        final NatsConfig nodeConfig = nodeConfigs.get(number);
+        if (config != null) {
+            node.withConfig(config.merge(nodeConfig));
+        } else if (nodeConfig != null) {
+            node.withConfig(nodeConfig);
+        }
+        final NatsResources nodeResource = nodeResources.get(number);
+        if (resources != null) {
+            node.withResources(resources.merge(nodeResource));
+        } else if (nodeResource != null) {
+            node.withResources(nodeResource);
+        }
+        if (logBufferLines != null) {
+            node.withLogBuffer(logBufferLines);
+        }
+        // nodes added after restore start with empty store
+        if (jetStreamSnapshot != null && jetStreamSnapshot.getServers().contains(node.getAlias())) {
+            node.withJetStreamArchive(jetStreamSnapshot.getArchive(node.getAlias()));
+        }
+        if (leafNodes) {
+            node.withLeafNodes();
+        }
+        if (tls != null) {
+            node.withTls(tls);
+        }
+        if (reuse) {
+            node.withReuse(true);
+        }
+        if (routeProxy) {
+            node.withClusterAdvertise(NatsRouteProxy.ADVERTISE_UNREACHABLE);
+        }
+        return node;
+    }
+
+    private static List<String> getRoutes(List<String> aliases,
+                                          String nodeAlias,
+                                          boolean parallel,
+                                          @Nullable NatsRouteProxy routeProxy) {
+        if (routeProxy != null) {
+            return routeProxy.getRoutes(nodeAlias);
+        }
 
-        // Build nodes
-        final List<NatsClusterContainer> nodes = new ArrayList<>(this.nodes);
-        for (int i = 1; i <= this.nodes; i++) {
-            var node = ((NatsClusterContainer) NatsClusterContainer.slave(image, clusterId, auth, i, leader.getAlias())
-                    .dependsOn(leader));
-            nodes.add(node);
+        final List<String> routeAliases;
+        if (parallel) {
+            routeAliases = aliases.stream()
+                    .filter(alias -> !alias.equals(nodeAlias))
+                    .collect(Collectors.toList());
+        } else if (aliases.get(0).equals(nodeAlias)) {
+            routeAliases = List.of();
+        } else {
+            routeAliases = List.of(aliases.get(0));
         }
 
-        return Stream.of(List.of(leader), nodes)
-                .flatMap(Collection::stream)
-                .map(c -> (network != null)
-                        ? ((NatsClusterContainer) c.withNetwork(network))
-                        : ((NatsClusterContainer) c.withNetwork(Network.SHARED)))
-                .collect(Collectors.toUnmodifiableList());
+        return routeAliases.stream()
+                .map(alias -> alias + ":" + NatsContainer.PORT_ROUTING)
+                .collect(Collectors.toList());
     }
 }
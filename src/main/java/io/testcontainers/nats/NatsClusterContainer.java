@@ -2,9 +2,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.utility.DockerImageName;
 
 /**
@@ -46,13 +47,23 @@ static class Auth {
 
     private final NodeType type;
     private final String alias;
-
-    private NatsClusterContainer(DockerImageName dockerImageName, NodeType type, String alias) {
+    private final String clusterId;
+    private final List<String> command;
+    private final Logger logger;
+    @Nullable
+    private String clusterAdvertise;
+
+    private NatsClusterContainer(DockerImageName dockerImageName,
+                                 NodeType type,
+                                 String alias,
+                                 String clusterId,
+                                 List<String> command) {
         super(dockerImageName);
         this.type = type;
         this.alias = alias;
-        withLogConsumer(new Slf4jLogConsumer(
-                LoggerFactory.getLogger(NatsClusterContainer.class.getCanonicalName() + " [" + alias + "]")));
+        this.clusterId = clusterId;
+        this.command = command;
+        this.logger = LoggerFactory.getLogger(NatsClusterContainer.class.getCanonicalName() + " [" + alias + "]");
     }
 
     public NodeType getType() {
@@ -63,45 +74,84 @@ public String getAlias() {
         return alias;
     }
 
-    static NatsClusterContainer master(DockerImageName image, String clusterId, Auth auth) {
+    String getClusterId() {
+        return clusterId;
+    }
+
+    @Override
+    String getServerName() {
+        return alias;
+    }
+
+    @Override
+    Logger getLogConsumerLogger() {
+        return logger;
+    }
+
+    @Override
+    boolean isClusterNode() {
+        return true;
+    }
+
+    static NatsClusterContainer master(DockerImageName image,
+                                       String clusterId,
+                                       Auth auth,
+                                       @Nullable NatsJetStream jetStream,
+                                       List<String> routes) {
         final String alias = NodeType.LEADER.alias(clusterId, 0);
-        final List<String> cmd = getCommonCommand(alias, clusterId, auth);
+        return node(image, NodeType.LEADER, alias, clusterId, auth, jetStream, routes);
+    }
 
-        var container = new NatsClusterContainer(image, NodeType.LEADER, alias);
-        if (auth.token != null) {
-            container.withAuthToken(auth.token);
-        }
-        if (auth.username != null && auth.password != null) {
-            container.withUsernameAndPassword(auth.username, auth.password);
-        }
-        return (NatsClusterContainer) container
-                .withNetworkAliases(alias)
-                .withCommand(cmd.toArray(new String[0]));
+    static NatsClusterContainer slave(DockerImageName image,
+                                      String clusterId,
+                                      Auth auth,
+                                      @Nullable NatsJetStream jetStream,
+                                      int nodeNumber,
+                                      List<String> routes) {
+        final String alias = NodeType.NODE.alias(clusterId, nodeNumber);
+        return node(image, NodeType.NODE, alias, clusterId, auth, jetStream, routes);
     }
 
-    static NatsClusterContainer
-            slave(DockerImageName image, String clusterId, Auth auth, int nodeNumber, String clusterAlias) {
+    /**
+     * @param routes addresses in host:port format that node dials as explicit routes
+     */
+    private static NatsClusterContainer node(DockerImageName image,
+                                             NodeType type,
+                                             String alias,
+                                             String clusterId,
+                                             Auth auth,
+                                             @Nullable NatsJetStream jetStream,
+                                             List<String> routes) {
         final String defaultClusterUserName = "ruser";
         final String defaultClusterUserPassword = "T0pS3cr3t";
 
-        final String alias = NodeType.NODE.alias(clusterId, nodeNumber);
         final List<String> cmd = getCommonCommand(alias, clusterId, auth);
-        cmd.add("--connect_retries");
-        cmd.add("10");
-        cmd.add("--routes");
-        cmd.add(String.format("nats://%s:%s@%s:%s",
-                defaultClusterUserName, defaultClusterUserPassword, clusterAlias, NatsContainer.PORT_ROUTING));
+        if (!routes.isEmpty()) {
+            final String routeUrls = routes.stream()
+                    .map(route -> String.format("nats://%s:%s@%s",
+                            defaultClusterUserName, defaultClusterUserPassword, route))
+                    .collect(Collectors.joining(","));
+
+            cmd.add("--connect_retries");
+            cmd.add("10");
+            cmd.add("--routes");
+            cmd.add(routeUrls);
+        }
 
-        var container = new NatsClusterContainer(image, NodeType.LEADER, alias);
+        var container = new NatsClusterContainer(image, type, alias, clusterId, cmd);
         if (auth.token != null) {
             container.withAuthToken(auth.token);
         }
         if (auth.username != null && auth.password != null) {
             container.withUsernameAndPassword(auth.username, auth.password);
         }
-        return (NatsClusterContainer) container
-                .withNetworkAliases(alias)
-                .withCommand(cmd.toArray(new String[0]));
+        if (jetStream != null) {
+            final String volume = (jetStream.getVolume() == null)
+                    ? null
+                    : jetStream.getVolume() + "-" + alias;
+            container.withJetStream(jetStream, volume);
+        }
+        return (NatsClusterContainer) container.withNetworkAliases(alias);
     }
 
     private static List<String> getCommonCommand(String alias, String clusterId, Auth auth) {
@@ -119,6 +169,26 @@ private static List<String> getCommonCommand(String alias, String clusterId, Aut
         return cmd;
     }
 
+    /**
+     * @param clusterAdvertise route address gossiped to other nodes for implicit routes
+     * @return self
+     */
+    NatsClusterContainer withClusterAdvertise(String clusterAdvertise) {
+        this.clusterAdvertise = clusterAdvertise;
+        return this;
+    }
+
+    @Override
+    protected List<String> getServerCommand() {
+        final List<String> cmd = new ArrayList<>(command);
+        if (clusterAdvertise != null) {
+            cmd.add("--cluster_advertise");
+            cmd.add(clusterAdvertise);
+        }
+        cmd.addAll(getOptionsCommand());
+        return cmd;
+    }
+
     @Override
     public String getContainerName() {
         return super.getContainerName() + "[" + alias + "]";
@@ -0,0 +1,89 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cluster startup time with startup report of each node.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsCluster#getStartupReport()
+ * @since 17.10.2026
+ */
+public final class NatsClusterStartupReport {
+
+    private final Duration imagePrepared;
+    private final Duration total;
+    private final Duration nodesStarted;
+    private final Duration routesFormed;
+    private final Map<String, NatsStartupReport> nodes;
+
+    NatsClusterStartupReport(Duration imagePrepared,
+                             Duration total,
+                             Duration nodesStarted,
+                             Duration routesFormed,
+                             Map<String, NatsStartupReport> nodes) {
+        this.imagePrepared = imagePrepared;
+        this.total = total;
+        this.nodesStarted = nodesStarted;
+        this.routesFormed = routesFormed;
+        this.nodes = Collections.unmodifiableMap(new LinkedHashMap<>(nodes));
+    }
+
+    /**
+     * @return time spent resolving, pulling or loading nodes image, short if image was present locally
+     * @see NatsCluster#prepare()
+     */
+    public Duration getImagePrepared() {
+        return imagePrepared;
+    }
+
+    /**
+     * @return time from nodes start until each node has routes to all other nodes
+     */
+    public Duration getTotal() {
+        return total;
+    }
+
+    /**
+     * @return time until all nodes are started according to {@link NatsCluster.StartupMode}
+     */
+    public Duration getNodesStarted() {
+        return nodesStarted;
+    }
+
+    /**
+     * @return time after nodes are started until each node has routes to all other nodes
+     */
+    public Duration getRoutesFormed() {
+        return routesFormed;
+    }
+
+    /**
+     * @return startup report by node alias in nodes order
+     */
+    public Map<String, NatsStartupReport> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return alias of node with longest startup
+     */
+    public String getSlowestNode() {
+        return nodes.entrySet().stream()
+                .max(Map.Entry.comparingByValue((r1, r2) -> r1.getTotal().compareTo(r2.getTotal())))
+                .map(Map.Entry::getKey)
+                .orElseThrow();
+    }
+
+    @Override
+    public String toString() {
+        return "[imagePrepared=" + imagePrepared
+                + ", total=" + total
+                + ", nodesStarted=" + nodesStarted
+                + ", routesFormed=" + routesFormed
+                + ", nodes=" + nodes + ']';
+    }
+}
@@ -0,0 +1,323 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * NATS server tuning configuration that is rendered as configuration file and copied into container, for
+ * {@link NatsClusterBuilder} it is applied to each node and can be overridden per node.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration">NATS server configuration</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsConfig {
+
+    @Nullable
+    private Long maxPayload;
+    @Nullable
+    private Long maxPending;
+    @Nullable
+    private Integer maxConnections;
+    @Nullable
+    private Duration writeDeadline;
+    @Nullable
+    private Duration pingInterval;
+    @Nullable
+    private Integer maxPingsOut;
+    @Nullable
+    private Integer routePoolSize;
+    @Nullable
+    private Duration lameDuckDuration;
+    @Nullable
+    private Duration lameDuckGracePeriod;
+    @Nullable
+    private NatsAccounts accounts;
+    private final Map<String, String> properties = new LinkedHashMap<>();
+
+    /**
+     * @param bytes maximum message payload size (max_payload)
+     * @return self
+     */
+    public NatsConfig withMaxPayload(long bytes) {
+        this.maxPayload = requirePositive(bytes, "Max payload");
+        return this;
+    }
+
+    /**
+     * @param bytes maximum bytes buffered for connection before it is considered slow consumer (max_pending)
+     * @return self
+     */
+    public NatsConfig withMaxPending(long bytes) {
+        this.maxPending = requirePositive(bytes, "Max pending");
+        return this;
+    }
+
+    /**
+     * @param maxConnections maximum number of client connections (max_connections)
+     * @return self
+     */
+    public NatsConfig withMaxConnections(int maxConnections) {
+        this.maxConnections = (int) requirePositive(maxConnections, "Max connections");
+        return this;
+    }
+
+    /**
+     * @param writeDeadline for flushing pending data to connection before it is considered slow consumer
+     *                          (write_deadline)
+     * @return self
+     */
+    public NatsConfig withWriteDeadline(Duration writeDeadline) {
+        this.writeDeadline = requirePositive(writeDeadline, "Write deadline");
+        return this;
+    }
+
+    /**
+     * @param pingInterval between server pings to connections (ping_interval)
+     * @return self
+     */
+    public NatsConfig withPingInterval(Duration pingInterval) {
+        this.pingInterval = requirePositive(pingInterval, "Ping interval");
+        return this;
+    }
+
+    /**
+     * @param maxPingsOut outstanding pings before connection is closed (ping_max)
+     * @return self
+     */
+    public NatsConfig withMaxPingsOut(int maxPingsOut) {
+        this.maxPingsOut = (int) requirePositive(maxPingsOut, "Max pings out");
+        return this;
+    }
+
+    /**
+     * @param routePoolSize number of connections per route between cluster nodes (cluster.pool_size)
+     * @return self
+     */
+    public NatsConfig withRoutePoolSize(int routePoolSize) {
+        this.routePoolSize = (int) requirePositive(routePoolSize, "Route pool size");
+        return this;
+    }
+
+    /**
+     * @param lameDuckDuration over which server in lame duck mode gradually closes client connections before it
+     *                             shuts down (lame_duck_duration)
+     * @return self
+     * @see NatsCluster#removeNode(String)
+     */
+    public NatsConfig withLameDuckDuration(Duration lameDuckDuration) {
+        this.lameDuckDuration = requirePositive(lameDuckDuration, "Lame duck duration");
+        return this;
+    }
+
+    /**
+     * @param lameDuckGracePeriod before server in lame duck mode starts closing client connections
+     *                                (lame_duck_grace_period)
+     * @return self
+     */
+    public NatsConfig withLameDuckGracePeriod(Duration lameDuckGracePeriod) {
+        this.lameDuckGracePeriod = requirePositive(lameDuckGracePeriod, "Lame duck grace period");
+        return this;
+    }
+
+    /**
+     * @param accounts with users, exports, imports and subject mappings (accounts), can not be combined with token or
+     *                     username and password authentication
+     * @return self
+     */
+    public NatsConfig withAccounts(NatsAccounts accounts) {
+        this.accounts = Objects.requireNonNull(accounts);
+        return this;
+    }
+
+    /**
+     * @param name  top level configuration property name
+     * @param value configuration property value rendered as is, strings must be quoted
+     * @return self
+     */
+    public NatsConfig withProperty(String name, String value) {
+        this.properties.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+        return this;
+    }
+
+    @Nullable
+    public Long getMaxPayload() {
+        return maxPayload;
+    }
+
+    @Nullable
+    public Long getMaxPending() {
+        return maxPending;
+    }
+
+    @Nullable
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Nullable
+    public Duration getWriteDeadline() {
+        return writeDeadline;
+    }
+
+    @Nullable
+    public Duration getPingInterval() {
+        return pingInterval;
+    }
+
+    @Nullable
+    public Integer getMaxPingsOut() {
+        return maxPingsOut;
+    }
+
+    @Nullable
+    public Integer getRoutePoolSize() {
+        return routePoolSize;
+    }
+
+    @Nullable
+    public Duration getLameDuckDuration() {
+        return lameDuckDuration;
+    }
+
+    @Nullable
+    public Duration getLameDuckGracePeriod() {
+        return lameDuckGracePeriod;
+    }
+
+    @Nullable
+    public NatsAccounts getAccounts() {
+        return accounts;
+    }
+
+    public Map<String, String> getProperties() {
+        return Map.copyOf(properties);
+    }
+
+    /**
+     * @param override configuration which values take precedence
+     * @return new configuration with values of this configuration overridden by specified one
+     */
+    NatsConfig merge(@Nullable NatsConfig override) {
+        final NatsConfig merged = new NatsConfig();
+        merged.maxPayload = maxPayload;
+        merged.maxPending = maxPending;
+        merged.maxConnections = maxConnections;
+        merged.writeDeadline = writeDeadline;
+        merged.pingInterval = pingInterval;
+        merged.maxPingsOut = maxPingsOut;
+        merged.routePoolSize = routePoolSize;
+        merged.lameDuckDuration = lameDuckDuration;
+        merged.lameDuckGracePeriod = lameDuckGracePeriod;
+        merged.accounts = accounts;
+        merged.properties.putAll(properties);
+        if (override == null) {
+            return merged;
+        }
+
+        if (override.maxPayload != null)
+            merged.maxPayload = override.maxPayload;
+        if (override.maxPending != null)
+            merged.maxPending = override.maxPending;
+        if (override.maxConnections != null)
+            merged.maxConnections = override.maxConnections;
+        if (override.writeDeadline != null)
+            merged.writeDeadline = override.writeDeadline;
+        if (override.pingInterval != null)
+            merged.pingInterval = override.pingInterval;
+        if (override.maxPingsOut != null)
+            merged.maxPingsOut = override.maxPingsOut;
+        if (override.routePoolSize != null)
+            merged.routePoolSize = override.routePoolSize;
+        if (override.lameDuckDuration != null)
+            merged.lameDuckDuration = override.lameDuckDuration;
+        if (override.lameDuckGracePeriod != null)
+            merged.lameDuckGracePeriod = override.lameDuckGracePeriod;
+        if (override.accounts != null)
+            merged.accounts = override.accounts;
+        merged.properties.putAll(override.properties);
+        return merged;
+    }
+
+    /**
+     * @return configuration file content, empty if nothing is configured
+     */
+    String getConfig() {
+        return getConfig(null);
+    }
+
+    /**
+     * @param clusterConfig additional cluster block content, e.g. route TLS
+     * @return configuration file content, empty if nothing is configured
+     */
+    String getConfig(@Nullable String clusterConfig) {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, "max_payload", maxPayload);
+        append(builder, "max_pending", maxPending);
+        append(builder, "max_connections", maxConnections);
+        append(builder, "write_deadline", toDuration(writeDeadline));
+        append(builder, "ping_interval", toDuration(pingInterval));
+        append(builder, "ping_max", maxPingsOut);
+        append(builder, "lame_duck_duration", toDuration(lameDuckDuration));
+        append(builder, "lame_duck_grace_period", toDuration(lameDuckGracePeriod));
+        if (accounts != null) {
+            builder.append(accounts.getConfig());
+        }
+        properties.forEach((name, value) -> append(builder, name, value));
+        if (routePoolSize != null || clusterConfig != null) {
+            builder.append("cluster {\n");
+            if (routePoolSize != null) {
+                builder.append("  pool_size: ").append(routePoolSize).append("\n");
+            }
+            if (clusterConfig != null) {
+                builder.append(clusterConfig);
+            }
+            builder.append("}\n");
+        }
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String name, @Nullable Object value) {
+        if (value != null) {
+            builder.append(name).append(": ").append(value).append("\n");
+        }
+    }
+
+    @Nullable
+    private static String toDuration(@Nullable Duration duration) {
+        return (duration == null)
+                ? null
+                : "\"" + duration.toMillis() + "ms\"";
+    }
+
+    private static long requirePositive(long value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be positive, but was: " + value);
+        return value;
+    }
+
+    private static Duration requirePositive(Duration value, String name) {
+        if (value.isNegative() || value.isZero())
+            throw new IllegalArgumentException(name + " must be positive, but was: " + value);
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "[maxPayload=" + maxPayload
+                + ", maxPending=" + maxPending
+                + ", maxConnections=" + maxConnections
+                + ", writeDeadline=" + writeDeadline
+                + ", pingInterval=" + pingInterval
+                + ", maxPingsOut=" + maxPingsOut
+                + ", routePoolSize=" + routePoolSize
+                + ", lameDuckDuration=" + lameDuckDuration
+                + ", lameDuckGracePeriod=" + lameDuckGracePeriod
+                + ", accounts=" + accounts
+                + ", properties=" + properties + ']';
+    }
+}
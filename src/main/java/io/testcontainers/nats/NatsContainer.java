@@ -1,19 +1,35 @@
 package io.testcontainers.nats;
 
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.Volume;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
 
 /**
  * Nats TestContainer docker container implementation.
@@ -29,9 +45,14 @@ public class NatsContainer extends GenericContainer<NatsContainer> implements Na
     public static final Integer PORT_CLIENT = 4222;
     public static final Integer PORT_ROUTING = 6222;
     public static final Integer PORT_MONITORING = 8222;
+    public static final Integer PORT_GATEWAY = 7222;
+    public static final Integer PORT_LEAF_NODES = 7422;
+
+    static final String CONFIG_FILE = "/etc/nats/testcontainers.conf";
 
     private static final String IMAGE_NAME = "nats";
     private static final DockerImageName IMAGE = DockerImageName.parse(IMAGE_NAME);
+    private static final Logger logger = LoggerFactory.getLogger(NatsContainer.class);
 
     @Nullable
     private String username;
@@ -39,6 +60,33 @@ public class NatsContainer extends GenericContainer<NatsContainer> implements Na
     private String password;
     @Nullable
     private String token;
+    @Nullable
+    private NatsJetStream jetStream;
+    @Nullable
+    private NatsConfig natsConfig;
+    @Nullable
+    private String leafNodesConfig;
+    @Nullable
+    private NatsResources resources;
+    @Nullable
+    private NatsTls tls;
+    private boolean tlsCopied = false;
+    @Nullable
+    private NatsLogBuffer logBuffer;
+    private boolean logConsumerAttached = false;
+    @Nullable
+    private String config;
+    @Nullable
+    private String copiedConfig;
+
+    private String serverName = "nats-" + RandomStringUtils.randomAlphanumeric(8);
+    @Nullable
+    private Path jetStreamArchive;
+
+    private final Map<NatsStartupReport.Phase, Duration> startupPhases = new EnumMap<>(NatsStartupReport.Phase.class);
+    private long startupPhaseStarted;
+    @Nullable
+    private volatile NatsStartupReport startupReport;
 
     public NatsContainer(String dockerImageName) {
         this(DockerImageName.parse(dockerImageName));
@@ -51,13 +99,426 @@ public NatsContainer(DockerImageName imageName) {
         addExposedPort(PORT_ROUTING);
         addExposedPort(PORT_MONITORING);
         withStartupTimeout(Duration.ofSeconds(60));
-        withLogConsumer(new Slf4jLogConsumer(LoggerFactory.getLogger(NatsContainer.class)));
         waitingFor(Wait.forLogMessage(".*Server is ready.*", 1));
+        withCreateContainerCmdModifier(cmd -> this.startupPhaseStarted = System.nanoTime());
     }
 
     @Override
     protected void configure() {
+        final long configureStarted = System.nanoTime();
+        this.startupPhases.clear();
+        this.startupReport = null;
+
         super.configure();
+        if (!logConsumerAttached) {
+            withLogConsumer((logBuffer != null)
+                    ? logBuffer
+                    : new Slf4jLogConsumer(getLogConsumerLogger()));
+            this.logConsumerAttached = true;
+        }
+        if (resources != null) {
+            resources.getEnv().forEach(this::withEnv);
+        }
+        if (natsConfig != null && natsConfig.getAccounts() != null && (token != null || username != null))
+            throw new IllegalStateException(
+                    "Accounts can not be combined with withAuthToken() or withUsernameAndPassword()");
+        if (tls != null && !tlsCopied) {
+            if (isShouldBeReused())
+                throw new IllegalStateException("TLS can not be used with reusable container, "
+                        + "certificates are generated for each run");
+
+            final Set<String> hosts = new LinkedHashSet<>(List.of("localhost", "127.0.0.1", getHost()));
+            hosts.add(getServerName());
+            hosts.addAll(getNetworkAliases());
+            final NatsTls.Issued issued = tls.issue(getServerName(), hosts);
+            withCopyToContainer(Transferable.of(tls.getCaPem()), NatsTls.CA_FILE);
+            withCopyToContainer(Transferable.of(issued.getCertificatePem()), NatsTls.CERT_FILE);
+            withCopyToContainer(Transferable.of(issued.getPrivateKeyPem()), NatsTls.KEY_FILE);
+            this.tlsCopied = true;
+        }
+        if (jetStreamArchive != null) {
+            if (jetStream == null)
+                throw new IllegalStateException("JetStream snapshot requires JetStream to be enabled");
+            if (isShouldBeReused())
+                throw new IllegalStateException("JetStream snapshot can not be used with reusable container, "
+                        + "server name is taken from snapshot instead of configuration hash");
+            withCopyFileToContainer(MountableFile.forHostPath(jetStreamArchive), NatsJetStreamSnapshot.ARCHIVE_FILE);
+        }
+
+        final String serverConfig = getServerConfig();
+        if (serverConfig != null && !serverConfig.equals(copiedConfig)) {
+            withCopyToContainer(Transferable.of(serverConfig), CONFIG_FILE);
+            this.copiedConfig = serverConfig;
+        }
+
+        final List<String> cmd = getServerCommand();
+        if (!cmd.isEmpty()) {
+            withCommand(cmd.toArray(String[]::new));
+        }
+        recordStartupPhase(NatsStartupReport.Phase.CONFIGURE, configureStarted);
+
+        // image is resolved lazily on container creation, resolve it here so pull is not measured as creation
+        final long imageStarted = System.nanoTime();
+        getDockerImageName();
+        recordStartupPhase(NatsStartupReport.Phase.IMAGE, imageStarted);
+    }
+
+    /**
+     * @return server command or empty list if image default command should be used
+     */
+    protected List<String> getServerCommand() {
+        if (token == null && username == null && password == null && jetStream == null
+                && getServerConfig() == null) {
+            return new ArrayList<>();
+        }
+
+        final List<String> cmd = getCommonCommand(getServerName(), "nats");
+        if (token != null) {
+            cmd.add("--auth");
+            cmd.add(token);
+        }
+        if (username != null && password != null) {
+            cmd.add("--user");
+            cmd.add(username);
+            cmd.add("--pass");
+            cmd.add(password);
+        }
+        cmd.addAll(getOptionsCommand());
+        return cmd;
+    }
+
+    /**
+     * @return command for configuration file and JetStream options
+     */
+    protected List<String> getOptionsCommand() {
+        final List<String> cmd = new ArrayList<>();
+        if (getServerConfig() != null) {
+            cmd.add("--config");
+            cmd.add(CONFIG_FILE);
+        }
+        if (jetStream != null) {
+            cmd.addAll(jetStream.getCommand());
+        }
+        return cmd;
+    }
+
+    /**
+     * @return configuration file content or null if configuration file is not required
+     */
+    @Nullable
+    String getServerConfig() {
+        final StringBuilder builder = new StringBuilder();
+        final String routesTlsConfig = (tls != null && isClusterNode())
+                ? tls.getRoutesConfig()
+                : null;
+        if (natsConfig != null) {
+            builder.append(natsConfig.getConfig(routesTlsConfig));
+        } else if (routesTlsConfig != null) {
+            builder.append("cluster {\n").append(routesTlsConfig).append("}\n");
+        }
+        if (tls != null) {
+            builder.append(tls.getConfig());
+        }
+        if (leafNodesConfig != null) {
+            builder.append(leafNodesConfig);
+        }
+        if (config != null) {
+            builder.append(config);
+        }
+        if (jetStream != null && jetStream.hasLimits()) {
+            builder.append(jetStream.getConfig());
+        }
+
+        return (builder.length() == 0)
+                ? null
+                : builder.toString();
+    }
+
+    /**
+     * @param config server configuration rendered as configuration file, command line flags take precedence over it
+     * @return self
+     */
+    public NatsContainer withConfig(NatsConfig config) {
+        this.natsConfig = Objects.requireNonNull(config);
+        return this;
+    }
+
+    /**
+     * @param tls for client connections and for route connections if container is cluster node, certificate for
+     *                container is generated on start
+     * @return self
+     */
+    public NatsContainer withTls(NatsTls tls) {
+        this.tls = Objects.requireNonNull(tls);
+        this.tlsCopied = false;
+        return this;
+    }
+
+    /**
+     * @param resources CPU and memory limits with Go runtime environment applied to container
+     * @return self
+     */
+    public NatsContainer withResources(NatsResources resources) {
+        if (this.resources == null) {
+            withCreateContainerCmdModifier(cmd -> this.resources.apply(cmd.getHostConfig()));
+        }
+        this.resources = Objects.requireNonNull(resources);
+        return this;
+    }
+
+    /**
+     * Starts server with JetStream store restored from snapshot taken from single container, server name is taken
+     * from snapshot as JetStream state refers to it, JetStream must be enabled and container can not be reused.
+     *
+     * @param snapshot taken via {@link #snapshotJetStream(Path)}
+     * @return self
+     */
+    public NatsContainer withJetStreamSnapshot(NatsJetStreamSnapshot snapshot) {
+        if (snapshot.getServers().size() != 1)
+            throw new IllegalArgumentException("JetStream snapshot contains " + snapshot.getServers().size()
+                    + " servers, container can be started only from single server snapshot: " + snapshot);
+
+        final String server = snapshot.getServers().get(0);
+        this.serverName = server;
+        return withJetStreamArchive(snapshot.getArchive(server));
+    }
+
+    /**
+     * @param archive JetStream store archive extracted into store directory before server is started
+     * @return self
+     */
+    NatsContainer withJetStreamArchive(Path archive) {
+        if (this.jetStreamArchive == null) {
+            // tmpfs store is mounted on start, so archive is extracted by entrypoint instead of copied into store
+            withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("sh", "-c",
+                    "mkdir -p " + NatsJetStream.STORE_DIR
+                            + " && tar -xzf " + NatsJetStreamSnapshot.ARCHIVE_FILE + " -C " + NatsJetStream.STORE_DIR
+                            + " && rm -f " + NatsJetStreamSnapshot.ARCHIVE_FILE
+                            + " && exec docker-entrypoint.sh \"$@\"",
+                    "nats-server"));
+        }
+        this.jetStreamArchive = Objects.requireNonNull(archive);
+        return this;
+    }
+
+    /**
+     * Snapshots JetStream file store to directory after publishing is complete, server is frozen while store is
+     * archived, so snapshot is consistent
+     *
+     * @param directory to store snapshot archive and manifest in
+     * @return snapshot that can be used via {@link #withJetStreamSnapshot(NatsJetStreamSnapshot)}
+     */
+    public NatsJetStreamSnapshot snapshotJetStream(Path directory) {
+        return NatsJetStreamSnapshot.take(directory, List.of(this), null);
+    }
+
+    /**
+     * Keeps last log lines in memory instead of streaming each line to SLF4J, buffered lines are logged when
+     * container fails to start or on {@link #dumpLogs()}, must be configured before container is started.
+     * <p>
+     * Logs are dumped on test failure only for servers of {@link NatsShared}, for other containers test failure
+     * handling is left to caller, e.g. via JUnit {@code TestWatcher} that calls {@link #dumpLogs()}.
+     *
+     * @param lines number of last log lines to keep
+     * @return self
+     */
+    public NatsContainer withLogBuffer(int lines) {
+        this.logBuffer = new NatsLogBuffer(lines);
+        return this;
+    }
+
+    /**
+     * @return buffered log lines from oldest to newest, empty if log buffer is not enabled
+     * @see #withLogBuffer(int)
+     */
+    public List<String> getBufferedLogs() {
+        return (logBuffer == null)
+                ? List.of()
+                : logBuffer.getLines();
+    }
+
+    /**
+     * Logs buffered log lines with single logger call, does nothing if log buffer is not enabled
+     *
+     * @see #withLogBuffer(int)
+     */
+    public void dumpLogs() {
+        if (logBuffer == null) {
+            return;
+        }
+
+        final List<String> lines = logBuffer.getLines();
+        getLogConsumerLogger().info("Last {} log lines, {} earlier lines dropped:\n{}",
+                lines.size(), logBuffer.getDropped(), String.join("\n", lines));
+    }
+
+    /**
+     * @return logger container output is streamed to or dumped into
+     */
+    Logger getLogConsumerLogger() {
+        return logger;
+    }
+
+    @Override
+    public void start() {
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            dumpLogs();
+            throw e;
+        }
+    }
+
+    /**
+     * Accepts <a href="https://docs.nats.io/running-a-nats-service/configuration/leafnodes">leaf node</a>
+     * connections on {@link #PORT_LEAF_NODES}
+     *
+     * @return self
+     * @see NatsLeafNodes
+     */
+    public NatsContainer withLeafNodes() {
+        return withLeafNodesConfig("leafnodes {\n  port: " + PORT_LEAF_NODES + "\n}\n");
+    }
+
+    /**
+     * @param leafNodesConfig hub leaf nodes configuration block
+     * @return self
+     */
+    NatsContainer withLeafNodesConfig(String leafNodesConfig) {
+        this.leafNodesConfig = Objects.requireNonNull(leafNodesConfig);
+        if (!getExposedPorts().contains(PORT_LEAF_NODES)) {
+            addExposedPort(PORT_LEAF_NODES);
+        }
+        return this;
+    }
+
+    boolean isLeafNodes() {
+        return leafNodesConfig != null;
+    }
+
+    /**
+     * @return true if container has route connections to other servers
+     */
+    boolean isClusterNode() {
+        return false;
+    }
+
+    /**
+     * @param config configuration file content, command line flags take precedence over it
+     * @return self
+     */
+    NatsContainer withConfig(@Nullable String config) {
+        this.config = config;
+        return this;
+    }
+
+    /**
+     * Copies new configuration file to running container and signals server to <a href=
+     * "https://docs.nats.io/running-a-nats-service/configuration#configuration-reloading">reload</a>
+     * configuration, returns when server reports new configuration load time.
+     *
+     * @param config configuration file content
+     */
+    void reloadConfig(String config) {
+        final String previousLoadTime = getConfigLoadTime();
+
+        withConfig(config);
+        final String serverConfig = getServerConfig();
+        copyFileToContainer(Transferable.of(serverConfig), CONFIG_FILE);
+        this.copiedConfig = serverConfig;
+        getDockerClient().killContainerCmd(getContainerId()).withSignal("HUP").exec();
+
+        final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!Objects.equals(previousLoadTime, getConfigLoadTime())) {
+                return;
+            }
+
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for configuration reload", e);
+            }
+        }
+
+        throw new IllegalStateException(
+                "Timed out waiting for configuration reload for container: " + getContainerId());
+    }
+
+    @Nullable
+    private String getConfigLoadTime() {
+        try {
+            return getMonitoring().varz().getConfigLoadTime();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
+        if (!reused) {
+            // docker daemon measures start, so create is what remains from create request till container inspection
+            final Duration started = getDaemonStartDuration(containerInfo);
+            final Duration created = Duration.ofNanos(System.nanoTime() - startupPhaseStarted).minus(started);
+            startupPhases.put(NatsStartupReport.Phase.CREATE, (created.isNegative()) ? Duration.ZERO : created);
+            startupPhases.put(NatsStartupReport.Phase.START, started);
+        }
+        this.startupPhaseStarted = System.nanoTime();
+
+        super.containerIsStarting(containerInfo, reused);
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        recordStartupPhase(NatsStartupReport.Phase.READY, startupPhaseStarted);
+        final NatsStartupReport report = new NatsStartupReport(startupPhases, reused);
+        this.startupReport = report;
+
+        final String name = getServerName();
+        report.getPhases().forEach((phase, duration) -> NatsStartupEvent.emit(name, phase, duration));
+        logger.info("Container {} started in {} with slowest phase {}, phases: {}",
+                name, report.getTotal(), report.getSlowestPhase(), report.getPhases());
+
+        super.containerIsStarted(containerInfo, reused);
+    }
+
+    private void recordStartupPhase(NatsStartupReport.Phase phase, long phaseStarted) {
+        startupPhases.put(phase, Duration.ofNanos(System.nanoTime() - phaseStarted));
+        this.startupPhaseStarted = System.nanoTime();
+    }
+
+    private static Duration getDaemonStartDuration(InspectContainerResponse containerInfo) {
+        try {
+            final Instant created = OffsetDateTime.parse(containerInfo.getCreated()).toInstant();
+            final Instant started = OffsetDateTime.parse(containerInfo.getState().getStartedAt()).toInstant();
+            return (started.isAfter(created))
+                    ? Duration.between(created, started)
+                    : Duration.ZERO;
+        } catch (RuntimeException e) {
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * @return server name, also used in startup report logs and JFR events
+     */
+    String getServerName() {
+        // reusable container requires same command across runs, so name is derived from configuration
+        return (isShouldBeReused())
+                ? "nats-" + getHash(token, username, password, jetStream, natsConfig, leafNodesConfig)
+                : serverName;
+    }
+
+    /**
+     * @return startup phases of last container start
+     */
+    public NatsStartupReport getStartupReport() {
+        final NatsStartupReport report = this.startupReport;
+        if (report == null)
+            throw new IllegalStateException("Container is not started");
+
+        return report;
     }
 
     @Override
@@ -80,27 +541,38 @@ public NatsContainer withAuthTokenRandom() {
 
     public NatsContainer withAuthToken(String token) {
         this.token = Objects.requireNonNull(token);
-
-        final String id = RandomStringUtils.randomAlphanumeric(8);
-        List<String> cmd = getCommonCommand("nats-" + id, "nats");
-        cmd.add("--auth");
-        cmd.add(token);
-        withCommand(cmd.toArray(String[]::new));
-
         return this;
     }
 
     public NatsContainer withUsernameAndPassword(String username, String password) {
         this.username = Objects.requireNonNull(username);
         this.password = Objects.requireNonNull(password);
+        return this;
+    }
 
-        final String id = RandomStringUtils.randomAlphanumeric(8);
-        List<String> cmd = getCommonCommand("nats-" + id, "nats");
-        cmd.add("--user");
-        cmd.add(username);
-        cmd.add("--pass");
-        cmd.add(password);
-        withCommand(cmd.toArray(String[]::new));
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/configuration/resource_management">JetStream</a>
+     *
+     * @param jetStream storage configuration
+     * @return self
+     */
+    public NatsContainer withJetStream(NatsJetStream jetStream) {
+        return withJetStream(jetStream, jetStream.getVolume());
+    }
+
+    NatsContainer withJetStream(NatsJetStream jetStream, @Nullable String volume) {
+        this.jetStream = Objects.requireNonNull(jetStream);
+        if (jetStream.getStorage() == NatsJetStream.Storage.VOLUME) {
+            final List<Bind> binds = new ArrayList<>(getBinds());
+            binds.add(new Bind(volume, new Volume(NatsJetStream.STORE_DIR)));
+            setBinds(binds);
+        } else {
+            final Map<String, String> tmpFs = (getTmpFsMapping() == null)
+                    ? new HashMap<>()
+                    : new HashMap<>(getTmpFsMapping());
+            tmpFs.put(NatsJetStream.STORE_DIR, jetStream.getTmpfsOptions());
+            withTmpFs(tmpFs);
+        }
 
         return this;
     }
@@ -120,13 +592,37 @@ public String getToken() {
         return token;
     }
 
+    @Nullable
+    public NatsJetStream getJetStream() {
+        return jetStream;
+    }
+
+    @Nullable
+    public NatsConfig getConfig() {
+        return natsConfig;
+    }
+
+    @Nullable
+    public NatsResources getResources() {
+        return resources;
+    }
+
+    @Nullable
+    @Override
+    public NatsTls getTls() {
+        return tls;
+    }
+
     public URI getURI() {
+        final String scheme = (tls == null)
+                ? "nats"
+                : "tls";
         if (token != null) {
-            return URI.create(String.format("nats://%s@%s:%s", token, getHost(), getPort()));
+            return URI.create(String.format("%s://%s@%s:%s", scheme, token, getHost(), getPort()));
         } else if (username != null && password != null) {
-            return URI.create(String.format("nats://%s:%s@%s:%s", username, password, getHost(), getPort()));
+            return URI.create(String.format("%s://%s:%s@%s:%s", scheme, username, password, getHost(), getPort()));
         } else {
-            return URI.create(String.format("nats://%s:%s", getHost(), getPort()));
+            return URI.create(String.format("%s://%s:%s", scheme, getHost(), getPort()));
         }
     }
 
@@ -134,6 +630,10 @@ public URI getMonitoringURI() {
         return URI.create(String.format("http://%s:%s/varz", getHost(), getMappedPort(PORT_MONITORING)));
     }
 
+    public NatsMonitoring getMonitoring() {
+        return new NatsMonitoring(getHost(), getPortMonitoring());
+    }
+
     public int getPort() {
         return getMappedPort(PORT_CLIENT);
     }
@@ -146,6 +646,33 @@ public int getPortMonitoring() {
         return getMappedPort(PORT_MONITORING);
     }
 
+    public int getPortLeafNodes() {
+        return getMappedPort(PORT_LEAF_NODES);
+    }
+
+    /**
+     * @param values to compute hash for
+     * @return stable alphanumeric hash of values string representation
+     */
+    static String getHash(Object... values) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object value : values) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+
+            final StringBuilder builder = new StringBuilder();
+            final byte[] hash = digest.digest();
+            for (int i = 0; i < 4; i++) {
+                builder.append(String.format("%02x", hash[i]));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static List<String> getCommonCommand(String alias, String clusterName) {
         final List<String> cmd = new ArrayList<>();
         cmd.add("--name");
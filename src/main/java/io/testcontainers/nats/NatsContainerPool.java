@@ -0,0 +1,167 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Pool of started {@link NatsContainer} servers that are leased to tests, each {@link NatsLease} gets its own
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/securing_nats/accounts">account</a> so
+ * tests that share server do not see each other subjects.
+ * <p>
+ * Accounts are added and removed via configuration reload, so servers are never restarted between leases.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsContainerPool implements Startable {
+
+    private static final class Server {
+
+        private final NatsContainer container;
+        private final Map<String, NatsLease> leases = new ConcurrentHashMap<>();
+
+        private Server(NatsContainer container) {
+            this.container = container;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsContainerPool.class);
+
+    private final List<Server> servers;
+    private final AtomicLong counter = new AtomicLong();
+    private final NatsCluster.Lifecycle lifecycle = new NatsCluster.Lifecycle();
+
+    public NatsContainerPool(String dockerImageName, int size) {
+        this(DockerImageName.parse(dockerImageName), size);
+    }
+
+    public NatsContainerPool(DockerImageName imageName, int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("Pool size can not be less 1");
+
+        final List<Server> servers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            servers.add(new Server(new NatsContainer(imageName).withConfig(getConfig(List.of()))));
+        }
+        this.servers = List.copyOf(servers);
+    }
+
+    /**
+     * @param executor used to start and stop servers, cached daemon thread pool shared by clusters is used by
+     *                     default
+     * @return self
+     */
+    public NatsContainerPool withExecutor(Executor executor) {
+        this.lifecycle.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * @param startTimeout for all servers to start, 2 minutes by default
+     * @return self
+     */
+    public NatsContainerPool withStartTimeout(Duration startTimeout) {
+        this.lifecycle.startTimeout = NatsCluster.Lifecycle.requirePositive(startTimeout, "Start timeout");
+        return this;
+    }
+
+    /**
+     * @param stopTimeout for all servers to stop, 2 minutes by default
+     * @return self
+     */
+    public NatsContainerPool withStopTimeout(Duration stopTimeout) {
+        this.lifecycle.stopTimeout = NatsCluster.Lifecycle.requirePositive(stopTimeout, "Stop timeout");
+        return this;
+    }
+
+    public List<NatsContainer> getContainers() {
+        return servers.stream()
+                .map(s -> s.container)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Leases server with the least active leases and adds isolated account for lease
+     *
+     * @return lease with account credentials
+     */
+    public NatsLease lease() {
+        final Server server = servers.stream()
+                .min(Comparator.comparingInt(s -> s.leases.size()))
+                .orElseThrow();
+
+        final String account = "lease-" + counter.incrementAndGet();
+        final String password = UUID.randomUUID().toString().replace("-", "");
+        final NatsLease lease = new NatsLease(this, server.container, account, account, password);
+        synchronized (server) {
+            server.leases.put(account, lease);
+            server.container.reloadConfig(getConfig(server.leases.values()));
+        }
+
+        return lease;
+    }
+
+    void release(NatsLease lease) {
+        for (Server server : servers) {
+            if (server.container == lease.getContainer()) {
+                synchronized (server) {
+                    final NatsLease removed = server.leases.remove(lease.getAccount());
+                    if (removed != null && server.container.isRunning()) {
+                        server.container.reloadConfig(getConfig(server.leases.values()));
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private static String getConfig(Collection<NatsLease> leases) {
+        final StringBuilder builder = new StringBuilder("# accounts are added and removed on lease\n");
+        if (leases.isEmpty()) {
+            return builder.toString();
+        }
+
+        builder.append("accounts {\n");
+        for (NatsLease lease : leases) {
+            builder.append("  \"").append(lease.getAccount()).append("\": {\n")
+                    .append("    users: [ { user: \"").append(lease.getUsername())
+                    .append("\", password: \"").append(lease.getPassword()).append("\" } ]\n")
+                    .append("  }\n");
+        }
+        return builder.append("}\n").toString();
+    }
+
+    /**
+     * Starts all servers in parallel, when any server fails to start or timeout is exceeded, all servers are stopped
+     * without waiting for other servers
+     */
+    @Override
+    public void start() {
+        final List<NatsContainer> containers = getContainers();
+        lifecycle.startAll(containers, 0, lifecycle.startTimeout, "pool servers", () -> {}, e -> logger.warn(
+                "Pool startup failed, stopping {} servers: {}", containers.size(), e.getMessage()));
+    }
+
+    @Override
+    public void stop() {
+        final CompletableFuture[] futures = servers.stream()
+                .map(s -> CompletableFuture.runAsync(s.container::stop, lifecycle.executor))
+                .toArray(CompletableFuture[]::new);
+        NatsCluster.Lifecycle.await(CompletableFuture.allOf(futures), lifecycle.stopTimeout, "pool stop");
+    }
+}
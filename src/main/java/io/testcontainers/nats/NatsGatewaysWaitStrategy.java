@@ -0,0 +1,28 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+
+/**
+ * Waits until NATS server reports healthy state via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#health">/healthz</a> and has
+ * outbound gateway connections to expected number of other clusters via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#gateway-information">/gatewayz</a>.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsGatewaysWaitStrategy extends NatsMonitoringWaitStrategy {
+
+    /**
+     * @param gateways number of other clusters node should have outbound gateway connections to
+     */
+    public NatsGatewaysWaitStrategy(int gateways) {
+        super("gateways", gateways, monitoring -> monitoring.gatewayz().getOutboundGateways().size());
+    }
+
+    @Override
+    public NatsGatewaysWaitStrategy withPollInterval(Duration pollInterval) {
+        super.withPollInterval(pollInterval);
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+package io.testcontainers.nats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Shared HTTP client for NATS monitoring endpoints.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class NatsHttp {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private NatsHttp() {}
+
+    static HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .GET()
+                .timeout(TIMEOUT)
+                .build();
+    }
+
+    static JsonNode read(InputStream body) throws IOException {
+        try (InputStream stream = body) {
+            return MAPPER.readTree(stream);
+        }
+    }
+
+    /**
+     * @param uri to request
+     * @return response status code
+     */
+    static int status(URI uri) throws IOException, InterruptedException {
+        return CLIENT.send(request(uri), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * @param uri to request
+     * @return response body as JSON
+     * @throws IOException if response status is not 200 or request failed
+     */
+    static JsonNode get(URI uri) throws IOException, InterruptedException {
+        final HttpResponse<InputStream> response = CLIENT.send(request(uri), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("Request " + uri + " failed with status: " + response.statusCode());
+        }
+
+        return read(response.body());
+    }
+
+    /**
+     * @param uri to request
+     * @return response body as JSON, completed exceptionally with {@link UncheckedIOException} if response
+     *             status is not 200
+     */
+    static CompletableFuture<JsonNode> getAsync(URI uri) {
+        return CLIENT.sendAsync(request(uri), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    try {
+                        if (response.statusCode() != 200) {
+                            throw new IOException("Request " + uri + " failed with status: " + response.statusCode());
+                        }
+
+                        return MAPPER.readTree(response.body());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
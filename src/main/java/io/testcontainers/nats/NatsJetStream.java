@@ -0,0 +1,165 @@
+package io.testcontainers.nats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * NATS JetStream storage configuration for {@link NatsContainer} and {@link NatsClusterBuilder}.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/resource_management">JetStream configuration</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsJetStream {
+
+    public enum Storage {
+
+        /**
+         * File storage on tmpfs mount, data is kept in RAM and is lost when container is stopped
+         */
+        TMPFS,
+        /**
+         * File storage on named Docker volume
+         */
+        VOLUME,
+        /**
+         * Memory only storage, file storage limit is set to zero
+         */
+        MEMORY
+    }
+
+    static final String STORE_DIR = "/data/jetstream";
+
+    private final Storage storage;
+    @Nullable
+    private final String volume;
+
+    @Nullable
+    private String tmpfsSize;
+    @Nullable
+    private Long maxMemoryStore;
+    @Nullable
+    private Long maxFileStore;
+
+    private NatsJetStream(Storage storage, @Nullable String volume) {
+        this.storage = storage;
+        this.volume = volume;
+    }
+
+    /**
+     * @return JetStream with file storage on tmpfs mount
+     */
+    public static NatsJetStream tmpfs() {
+        return new NatsJetStream(Storage.TMPFS, null);
+    }
+
+    /**
+     * @param volume name of Docker volume to store JetStream data in, for cluster nodes volume name is
+     *                   suffixed with node alias
+     * @return JetStream with file storage on named volume
+     */
+    public static NatsJetStream volume(String volume) {
+        return new NatsJetStream(Storage.VOLUME, Objects.requireNonNull(volume));
+    }
+
+    /**
+     * @return JetStream with memory only storage
+     */
+    public static NatsJetStream memory() {
+        return new NatsJetStream(Storage.MEMORY, null).withMaxFileStore(0);
+    }
+
+    /**
+     * @param size of tmpfs mount in Docker format (e.g. 512m), applicable for {@link Storage#TMPFS} and
+     *                 {@link Storage#MEMORY}
+     * @return self
+     */
+    public NatsJetStream withTmpfsSize(String size) {
+        this.tmpfsSize = Objects.requireNonNull(size);
+        return this;
+    }
+
+    /**
+     * @param bytes maximum memory storage size (max_memory_store)
+     * @return self
+     */
+    public NatsJetStream withMaxMemoryStore(long bytes) {
+        this.maxMemoryStore = bytes;
+        return this;
+    }
+
+    /**
+     * @param bytes maximum file storage size (max_file_store)
+     * @return self
+     */
+    public NatsJetStream withMaxFileStore(long bytes) {
+        this.maxFileStore = bytes;
+        return this;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    @Nullable
+    public String getVolume() {
+        return volume;
+    }
+
+    @Nullable
+    public Long getMaxMemoryStore() {
+        return maxMemoryStore;
+    }
+
+    @Nullable
+    public Long getMaxFileStore() {
+        return maxFileStore;
+    }
+
+    String getTmpfsOptions() {
+        return (tmpfsSize == null)
+                ? "rw"
+                : "rw,size=" + tmpfsSize;
+    }
+
+    boolean hasLimits() {
+        return maxMemoryStore != null || maxFileStore != null;
+    }
+
+    /**
+     * Limits are not available as server flags, so they are rendered as configuration file block
+     *
+     * @return JetStream configuration block
+     */
+    String getConfig() {
+        final StringBuilder builder = new StringBuilder("jetstream {\n");
+        builder.append("  store_dir: \"").append(STORE_DIR).append("\"\n");
+        if (maxMemoryStore != null) {
+            builder.append("  max_memory_store: ").append(maxMemoryStore).append("\n");
+        }
+        if (maxFileStore != null) {
+            builder.append("  max_file_store: ").append(maxFileStore).append("\n");
+        }
+        return builder.append("}\n").toString();
+    }
+
+    @Override
+    public String toString() {
+        return "[storage=" + storage
+                + ", volume=" + volume
+                + ", tmpfsSize=" + tmpfsSize
+                + ", maxMemoryStore=" + maxMemoryStore
+                + ", maxFileStore=" + maxFileStore + ']';
+    }
+
+    List<String> getCommand() {
+        final List<String> cmd = new ArrayList<>();
+        cmd.add("--jetstream");
+        cmd.add("--store_dir");
+        cmd.add(STORE_DIR);
+        return cmd;
+    }
+}
@@ -0,0 +1,246 @@
+package io.testcontainers.nats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.containers.Container;
+
+/**
+ * JetStream store snapshot taken from running {@link NatsContainer} or {@link NatsCluster}, stored as directory
+ * with store archive per server and manifest, so new container or cluster starts with pre-seeded streams and
+ * key value buckets instead of publishing them again.
+ * <p>
+ * Only file storage is captured, memory storage streams are not part of snapshot.
+ * <p>
+ * Image must contain <b>tar</b>, e.g. <b>nats:2.11-alpine</b>.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsContainer#snapshotJetStream(Path)
+ * @see NatsCluster#snapshotJetStream(Path)
+ * @since 17.10.2026
+ */
+public final class NatsJetStreamSnapshot {
+
+    static final String ARCHIVE_FILE = "/tmp/jetstream-snapshot.tar.gz";
+
+    private static final String MANIFEST = "manifest.properties";
+    private static final String ARCHIVE_SUFFIX = ".tar.gz";
+    private static final Duration QUIESCE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration QUIESCE_POLL_INTERVAL = Duration.ofMillis(250);
+
+    private final Path directory;
+    private final String image;
+    private final Instant created;
+    @Nullable
+    private final String clusterId;
+    private final List<String> servers;
+
+    private NatsJetStreamSnapshot(Path directory,
+                                  String image,
+                                  Instant created,
+                                  @Nullable String clusterId,
+                                  List<String> servers) {
+        this.directory = directory;
+        this.image = image;
+        this.created = created;
+        this.clusterId = clusterId;
+        this.servers = List.copyOf(servers);
+    }
+
+    /**
+     * @param directory with snapshot previously taken via {@link NatsContainer#snapshotJetStream(Path)} or
+     *                      {@link NatsCluster#snapshotJetStream(Path)}
+     * @return snapshot
+     */
+    public static NatsJetStreamSnapshot of(Path directory) {
+        final Path manifest = directory.resolve(MANIFEST);
+        if (!Files.isRegularFile(manifest))
+            throw new IllegalArgumentException("JetStream snapshot manifest not found: " + manifest);
+
+        final Properties properties = new Properties();
+        try (InputStream stream = Files.newInputStream(manifest)) {
+            properties.load(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read JetStream snapshot manifest: " + manifest, e);
+        }
+
+        final List<String> servers = Arrays.stream(properties.getProperty("servers", "").split(","))
+                .filter(server -> !server.isBlank())
+                .collect(Collectors.toList());
+        final NatsJetStreamSnapshot snapshot = new NatsJetStreamSnapshot(directory,
+                properties.getProperty("image"),
+                Instant.parse(properties.getProperty("created")),
+                properties.getProperty("cluster.id"),
+                servers);
+
+        for (String server : servers) {
+            if (!Files.isRegularFile(snapshot.getArchive(server)))
+                throw new IllegalArgumentException(
+                        "JetStream snapshot archive not found: " + snapshot.getArchive(server));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Waits until JetStream store stops changing, freezes all servers with SIGSTOP so archives are consistent
+     * across servers, archives store of each server and resumes servers.
+     */
+    static NatsJetStreamSnapshot take(Path directory,
+                                      List<? extends NatsContainer> containers,
+                                      @Nullable String clusterId) {
+        for (NatsContainer container : containers) {
+            if (container.getJetStream() == null)
+                throw new IllegalStateException("JetStream is not enabled for server: " + container.getServerName());
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create JetStream snapshot directory: " + directory, e);
+        }
+
+        awaitQuiesced(containers);
+
+        final List<String> servers = new ArrayList<>(containers.size());
+        final List<NatsContainer> frozen = new ArrayList<>(containers.size());
+        try {
+            for (NatsContainer container : containers) {
+                container.getDockerClient().killContainerCmd(container.getContainerId()).withSignal("STOP").exec();
+                frozen.add(container);
+            }
+
+            for (NatsContainer container : containers) {
+                final String server = container.getServerName();
+                archive(container, directory.resolve(server + ARCHIVE_SUFFIX));
+                servers.add(server);
+            }
+        } finally {
+            for (NatsContainer container : frozen) {
+                container.getDockerClient().killContainerCmd(container.getContainerId()).withSignal("CONT").exec();
+            }
+        }
+
+        final NatsJetStreamSnapshot snapshot = new NatsJetStreamSnapshot(directory,
+                containers.get(0).getDockerImageName(), Instant.now(), clusterId, servers);
+        snapshot.writeManifest();
+        return snapshot;
+    }
+
+    private static void awaitQuiesced(List<? extends NatsContainer> containers) {
+        final long deadline = System.nanoTime() + QUIESCE_TIMEOUT.toNanos();
+        String previous = null;
+        while (System.nanoTime() < deadline) {
+            final String current = containers.stream()
+                    .map(container -> container.getMonitoring().jsz())
+                    .map(jsz -> jsz.getMessages() + ":" + jsz.getBytes())
+                    .collect(Collectors.joining(","));
+            if (current.equals(previous)) {
+                return;
+            }
+            previous = current;
+
+            try {
+                Thread.sleep(QUIESCE_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for JetStream store to settle", e);
+            }
+        }
+
+        throw new IllegalStateException("JetStream store is still being written after " + QUIESCE_TIMEOUT
+                + ", snapshot must be taken after publishing is complete");
+    }
+
+    private static void archive(NatsContainer container, Path target) {
+        try {
+            final Container.ExecResult result = container.execInContainer(
+                    "tar", "-czf", ARCHIVE_FILE, "-C", NatsJetStream.STORE_DIR, ".");
+            if (result.getExitCode() != 0)
+                throw new IllegalStateException("Failed to archive JetStream store of server "
+                        + container.getServerName() + ": " + result.getStderr());
+
+            container.copyFileFromContainer(ARCHIVE_FILE, stream -> {
+                try (OutputStream output = Files.newOutputStream(target)) {
+                    return stream.transferTo(output);
+                }
+            });
+            container.execInContainer("rm", "-f", ARCHIVE_FILE);
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Failed to copy JetStream store of server " + container.getServerName(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while archiving JetStream store", e);
+        }
+    }
+
+    private void writeManifest() {
+        final Properties properties = new Properties();
+        properties.setProperty("image", image);
+        properties.setProperty("created", created.toString());
+        properties.setProperty("servers", String.join(",", servers));
+        if (clusterId != null) {
+            properties.setProperty("cluster.id", clusterId);
+        }
+
+        try (OutputStream stream = Files.newOutputStream(directory.resolve(MANIFEST))) {
+            properties.store(stream, "NATS JetStream snapshot");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write JetStream snapshot manifest to: " + directory, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return image snapshot was taken from
+     */
+    public String getImage() {
+        return image;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    /**
+     * @return cluster id snapshot was taken from or null if taken from single container
+     */
+    @Nullable
+    public String getClusterId() {
+        return clusterId;
+    }
+
+    /**
+     * @return names of servers snapshot contains store archive for
+     */
+    public List<String> getServers() {
+        return servers;
+    }
+
+    Path getArchive(String server) {
+        return directory.resolve(Objects.requireNonNull(server) + ARCHIVE_SUFFIX);
+    }
+
+    @Override
+    public String toString() {
+        return "[directory=" + directory
+                + ", image=" + image
+                + ", created=" + created
+                + ", clusterId=" + clusterId
+                + ", servers=" + servers + ']';
+    }
+}
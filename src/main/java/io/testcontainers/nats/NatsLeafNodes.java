@@ -0,0 +1,172 @@
+package io.testcontainers.nats;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * NATS hub {@link NatsContainer} or {@link NatsCluster} with leaf {@link NatsContainer}s connected to it, hub is
+ * started before and stopped after leaf nodes.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/leafnodes">NATS leaf nodes</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsLeafNodesBuilder
+ * @since 17.10.2026
+ */
+public class NatsLeafNodes implements NatsStartable, Startable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsLeafNodes.class);
+
+    private final Startable hub;
+    private final NatsStartable hubStartable;
+    private final List<NatsContainer> hubNodes;
+    private final List<NatsContainer> leaves;
+    private final Map<Integer, String> accounts;
+    private final NatsCluster.Lifecycle lifecycle;
+
+    NatsLeafNodes(Startable hub,
+                  NatsStartable hubStartable,
+                  List<NatsContainer> hubNodes,
+                  List<NatsContainer> leaves,
+                  Map<Integer, String> accounts,
+                  NatsCluster.Lifecycle lifecycle) {
+        this.hub = hub;
+        this.hubStartable = hubStartable;
+        this.hubNodes = List.copyOf(hubNodes);
+        this.leaves = List.copyOf(leaves);
+        this.accounts = Map.copyOf(accounts);
+        this.lifecycle = lifecycle;
+    }
+
+    public static NatsLeafNodesBuilder builder(NatsContainer hub) {
+        return new NatsLeafNodesBuilder(hub);
+    }
+
+    public static NatsLeafNodesBuilder builder(NatsCluster hub) {
+        return new NatsLeafNodesBuilder(hub);
+    }
+
+    public NatsStartable getHub() {
+        return hubStartable;
+    }
+
+    public List<NatsContainer> getLeaves() {
+        return leaves;
+    }
+
+    public NatsContainer getLeaf(int leaf) {
+        return leaves.get(leaf);
+    }
+
+    /**
+     * @param leaf number of leaf node starting from 0
+     * @return hub account leaf node is bound to or null if bound to hub global account
+     */
+    @Nullable
+    public String getLeafAccount(int leaf) {
+        return accounts.get(leaf);
+    }
+
+    /**
+     * @return hosts and ports of leaf nodes followed by hub nodes, so load generator subscribers are spread
+     *             across leaf nodes and publishers land on hub when there is one subscriber per leaf
+     */
+    public List<NatsCluster.HostAndPort> getHostsAndPorts() {
+        final List<NatsCluster.HostAndPort> hosts = new ArrayList<>(leaves.size() + hubNodes.size());
+        leaves.forEach(leaf -> hosts.add(new NatsCluster.HostAndPort(leaf.getHost(), leaf.getPort())));
+        hubNodes.forEach(node -> hosts.add(new NatsCluster.HostAndPort(node.getHost(), node.getPort())));
+        return hosts;
+    }
+
+    @Nullable
+    public String getUsername() {
+        return hubStartable.getUsername();
+    }
+
+    @Nullable
+    public String getPassword() {
+        return hubStartable.getPassword();
+    }
+
+    @Nullable
+    public String getToken() {
+        return hubStartable.getToken();
+    }
+
+    public URI getURI() {
+        return hubStartable.getURI();
+    }
+
+    public URI getMonitoringURI() {
+        return hubStartable.getMonitoringURI();
+    }
+
+    public NatsMonitoring getMonitoring() {
+        return hubStartable.getMonitoring();
+    }
+
+    public int getPort() {
+        return hubStartable.getPort();
+    }
+
+    public int getPortRouting() {
+        return hubStartable.getPortRouting();
+    }
+
+    public int getPortMonitoring() {
+        return hubStartable.getPortMonitoring();
+    }
+
+    /**
+     * Starts hub and then all leaf nodes in parallel, returns only when each leaf node has connection to hub.
+     * <p>
+     * When any leaf node fails to start or timeout is exceeded, all leaf nodes and hub are stopped without waiting
+     * for other leaf nodes.
+     */
+    @Override
+    public void start() {
+        hub.start();
+
+        try {
+            lifecycle.startAll(leaves, 0, lifecycle.startTimeout, "leaf nodes", () -> {
+                final CompletableFuture[] connected = leaves.stream()
+                        .map(leaf -> CompletableFuture.runAsync(() -> new NatsLeafNodesWaitStrategy(1)
+                                .withStartupTimeout(lifecycle.routesTimeout)
+                                .waitUntilReady(leaf), lifecycle.executor))
+                        .toArray(CompletableFuture[]::new);
+                NatsCluster.Lifecycle.await(NatsCluster.Lifecycle.allOfFailFast(connected), lifecycle.routesTimeout,
+                        "leaf nodes connections");
+            }, e -> logger.warn("Leaf nodes startup failed, stopping {} leaf nodes and hub: {}", leaves.size(),
+                    e.getMessage()));
+        } catch (RuntimeException e) {
+            try {
+                hub.stop();
+            } catch (RuntimeException stopException) {
+                e.addSuppressed(stopException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops all leaf nodes in parallel and then hub
+     */
+    @Override
+    public void stop() {
+        try {
+            final CompletableFuture[] futures = leaves.stream()
+                    .map(leaf -> CompletableFuture.runAsync(leaf::stop, lifecycle.executor))
+                    .toArray(CompletableFuture[]::new);
+            NatsCluster.Lifecycle.await(CompletableFuture.allOf(futures), lifecycle.stopTimeout, "leaf nodes stop");
+        } finally {
+            hub.stop();
+        }
+    }
+}
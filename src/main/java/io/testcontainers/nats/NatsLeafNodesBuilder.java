@@ -0,0 +1,254 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * NATS Leaf Nodes {@link NatsLeafNodes} Builder, leaf {@link NatsContainer}s connect to hub {@link NatsContainer}
+ * or to all nodes of hub {@link NatsCluster}.
+ * <p>
+ * Leaf connections carry credentials only when leaves are bound to hub accounts via
+ * {@link #withLeafAccount(int, String)}, so hub with token or username authentication requires leaf accounts.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/leafnodes">NATS leaf nodes</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsLeafNodesBuilder {
+
+    private static final String HUB_ALIAS_PREFIX = "nats-hub-";
+    private static final String LEAF_PASSWORD_SEED = "nats-leaf";
+    private static final String DEFAULT_ALIAS_PREFIX = "tc-";
+
+    private final Startable hub;
+    private final NatsStartable hubStartable;
+    private final List<NatsContainer> hubNodes;
+    @Nullable
+    private final List<String> hubAliases;
+
+    private DockerImageName image;
+    private int leaves = 1;
+    private final Map<Integer, String> accounts = new TreeMap<>();
+    private final NatsCluster.Lifecycle lifecycle = new NatsCluster.Lifecycle();
+
+    NatsLeafNodesBuilder(NatsContainer hub) {
+        this.hub = hub;
+        this.hubStartable = hub;
+        this.hubNodes = List.of(hub);
+        this.hubAliases = null;
+        this.image = DockerImageName.parse(hub.getDockerImageName());
+    }
+
+    NatsLeafNodesBuilder(NatsCluster hub) {
+        this.hub = hub;
+        this.hubStartable = hub;
+        this.hubNodes = List.copyOf(hub.getNodes());
+        this.hubAliases = hub.getNodes().stream()
+                .map(NatsClusterContainer::getAlias)
+                .collect(Collectors.toList());
+        this.image = DockerImageName.parse(hub.getNodes().get(0).getDockerImageName());
+    }
+
+    /**
+     * @param image of leaf nodes, hub image is used by default
+     * @return self
+     */
+    public NatsLeafNodesBuilder withImage(String image) {
+        return withImage(DockerImageName.parse(image));
+    }
+
+    public NatsLeafNodesBuilder withImage(DockerImageName image) {
+        this.image = Objects.requireNonNull(image);
+        return this;
+    }
+
+    public NatsLeafNodesBuilder withLeaves(int leaves) {
+        this.leaves = leaves;
+        return this;
+    }
+
+    /**
+     * Binds leaf node connection to specified hub account, leaf nodes bound to same account share subjects and
+     * are isolated from other accounts, leaf nodes without account are bound to hub global account.
+     *
+     * @param leaf    number of leaf node starting from 0
+     * @param account hub account name
+     * @return self
+     */
+    public NatsLeafNodesBuilder withLeafAccount(int leaf, String account) {
+        this.accounts.put(leaf, Objects.requireNonNull(account));
+        return this;
+    }
+
+    /**
+     * @param executor used to start, stop and await leaf nodes, cached daemon thread pool shared by clusters is
+     *                     used by default
+     * @return self
+     */
+    public NatsLeafNodesBuilder withExecutor(Executor executor) {
+        this.lifecycle.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * @param startTimeout for all leaf nodes to start, 2 minutes by default
+     * @return self
+     */
+    public NatsLeafNodesBuilder withStartTimeout(Duration startTimeout) {
+        this.lifecycle.startTimeout = NatsCluster.Lifecycle.requirePositive(startTimeout, "Start timeout");
+        return this;
+    }
+
+    /**
+     * @param connectionsTimeout for each started leaf node to connect to hub, 2 minutes by default
+     * @return self
+     */
+    public NatsLeafNodesBuilder withConnectionsTimeout(Duration connectionsTimeout) {
+        this.lifecycle.routesTimeout = NatsCluster.Lifecycle.requirePositive(connectionsTimeout,
+                "Connections timeout");
+        return this;
+    }
+
+    /**
+     * @param stopTimeout for all leaf nodes to stop, 2 minutes by default
+     * @return self
+     */
+    public NatsLeafNodesBuilder withStopTimeout(Duration stopTimeout) {
+        this.lifecycle.stopTimeout = NatsCluster.Lifecycle.requirePositive(stopTimeout, "Stop timeout");
+        return this;
+    }
+
+    public NatsLeafNodes build() {
+        if (leaves < 1)
+            throw new IllegalArgumentException("Leaves can not be less 1");
+        if (accounts.keySet().stream().anyMatch(leaf -> leaf < 0 || leaf >= leaves))
+            throw new IllegalArgumentException("Leaf account specified for leaves " + accounts.keySet()
+                    + " while leaves are numbered from 0 to " + (leaves - 1));
+
+        if (accounts.isEmpty() && (hubStartable.getToken() != null || hubStartable.getUsername() != null))
+            throw new IllegalArgumentException("Hub with withAuthToken() or withUsernameAndPassword() rejects leaf "
+                    + "connections without credentials, leaves must be bound to hub accounts via withLeafAccount()");
+
+        final NatsContainer hubNode = hubNodes.get(0);
+        if (hubNode.isRunning() && (!hubNode.isLeafNodes() || !accounts.isEmpty()))
+            throw new IllegalStateException("Hub is already running, leaf nodes and accounts must be configured "
+                    + "before hub is started");
+
+        // Users are required only to bind leaf connections to accounts
+        final List<String> users = new ArrayList<>(leaves);
+        final List<String> passwords = new ArrayList<>(leaves);
+        for (int i = 0; i < leaves; i++) {
+            users.add((accounts.isEmpty()) ? null : "leaf-" + i);
+            passwords.add((accounts.isEmpty())
+                    ? null
+                    : NatsAccounts.generatePassword(LEAF_PASSWORD_SEED, "leaf-" + i));
+        }
+
+        if (!hubNode.isRunning()) {
+            final String hubConfig = getHubConfig(users, passwords);
+            hubNodes.forEach(node -> node.withLeafNodesConfig(hubConfig));
+        }
+
+        final Network network;
+        if (hubNode.getNetwork() != null) {
+            network = hubNode.getNetwork();
+        } else if (hubNode.isRunning()) {
+            throw new IllegalStateException("Hub is already running without network, network must be configured "
+                    + "before hub is started");
+        } else {
+            network = Network.SHARED;
+            hubNode.withNetwork(network);
+        }
+
+        final List<String> leafHubAliases = (hubAliases == null)
+                ? List.of(getHubAlias(hubNode))
+                : hubAliases;
+
+        final List<NatsContainer> leafContainers = new ArrayList<>(leaves);
+        for (int i = 0; i < leaves; i++) {
+            leafContainers.add(new NatsContainer(image)
+                    .withNetwork(network)
+                    .withConfig(getLeafConfig(leafHubAliases, users.get(i), passwords.get(i))));
+        }
+
+        return new NatsLeafNodes(hub, hubStartable, hubNodes, leafContainers, accounts, lifecycle);
+    }
+
+    /**
+     * Alias generated by Testcontainers by default is random per container instance, so hub alias is set explicitly
+     * or alias configured by user is used
+     */
+    private static String getHubAlias(NatsContainer hub) {
+        final String alias = hub.getNetworkAliases().stream()
+                .filter(a -> !a.startsWith(DEFAULT_ALIAS_PREFIX))
+                .findFirst()
+                .orElse(null);
+        if (alias != null) {
+            return alias;
+        }
+        if (hub.isRunning())
+            throw new IllegalStateException("Hub is already running without network alias, alias must be configured "
+                    + "via withNetworkAliases() before hub is started");
+
+        final String generated = HUB_ALIAS_PREFIX + RandomStringUtils.randomAlphanumeric(8).toLowerCase();
+        hub.withNetworkAliases(generated);
+        return generated;
+    }
+
+    private String getHubConfig(List<String> users, List<String> passwords) {
+        final StringBuilder builder = new StringBuilder("leafnodes {\n");
+        builder.append("  port: ").append(NatsContainer.PORT_LEAF_NODES).append("\n");
+        if (!accounts.isEmpty()) {
+            builder.append("  authorization {\n");
+            builder.append("    users: [\n");
+            for (int i = 0; i < users.size(); i++) {
+                builder.append("      { user: \"").append(users.get(i))
+                        .append("\", password: \"").append(passwords.get(i)).append("\"");
+                final String account = accounts.get(i);
+                if (account != null) {
+                    builder.append(", account: \"").append(account).append("\"");
+                }
+                builder.append(" }\n");
+            }
+            builder.append("    ]\n");
+            builder.append("  }\n");
+        }
+        builder.append("}\n");
+
+        if (!accounts.isEmpty()) {
+            builder.append("accounts {\n");
+            accounts.values().stream()
+                    .distinct()
+                    .forEach(account -> builder.append("  \"").append(account).append("\": {}\n"));
+            builder.append("}\n");
+        }
+        return builder.toString();
+    }
+
+    private static String getLeafConfig(List<String> hubAliases, String user, String password) {
+        final String credentials = (user == null)
+                ? ""
+                : user + ":" + password + "@";
+        final String urls = hubAliases.stream()
+                .map(alias -> String.format("\"nats://%s%s:%s\"", credentials, alias, NatsContainer.PORT_LEAF_NODES))
+                .collect(Collectors.joining(", "));
+
+        return "leafnodes {\n"
+                + "  remotes: [\n"
+                + "    { urls: [" + urls + "] }\n"
+                + "  ]\n"
+                + "}\n";
+    }
+}
@@ -0,0 +1,30 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+
+/**
+ * Waits until NATS server reports healthy state via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#health">/healthz</a> and has
+ * expected number of leaf node connections via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#leaf-node-information">/leafz</a>.
+ * <p>
+ * Applicable both for leaf node waiting for its remotes and hub waiting for its leaf nodes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsLeafNodesWaitStrategy extends NatsMonitoringWaitStrategy {
+
+    /**
+     * @param leafNodes number of leaf node connections server should have
+     */
+    public NatsLeafNodesWaitStrategy(int leafNodes) {
+        super("leaf nodes", leafNodes, monitoring -> monitoring.leafz().getLeafNodes());
+    }
+
+    @Override
+    public NatsLeafNodesWaitStrategy withPollInterval(Duration pollInterval) {
+        super.withPollInterval(pollInterval);
+        return this;
+    }
+}
@@ -0,0 +1,105 @@
+package io.testcontainers.nats;
+
+import java.net.URI;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lease of NATS server with isolated <a href=
+ * "https://docs.nats.io/running-a-nats-service/configuration/securing_nats/accounts">account</a>, subjects of
+ * one lease are not visible to other leases of the same server.
+ * <p>
+ * Lease should be closed when it is not needed anymore, so account is removed from server.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsContainerPool
+ * @since 17.10.2026
+ */
+public final class NatsLease implements NatsStartable, AutoCloseable {
+
+    private final NatsContainerPool pool;
+    private final NatsContainer container;
+    private final String account;
+    private final String username;
+    private final String password;
+
+    NatsLease(NatsContainerPool pool, NatsContainer container, String account, String username, String password) {
+        this.pool = pool;
+        this.container = container;
+        this.account = account;
+        this.username = username;
+        this.password = password;
+    }
+
+    public NatsContainer getContainer() {
+        return container;
+    }
+
+    public String getAccount() {
+        return account;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Nullable
+    @Override
+    public String getToken() {
+        return null;
+    }
+
+    @Override
+    public URI getURI() {
+        return URI.create(String.format("nats://%s:%s@%s:%s", username, password, container.getHost(), getPort()));
+    }
+
+    @Override
+    public URI getMonitoringURI() {
+        return container.getMonitoringURI();
+    }
+
+    @Override
+    public NatsMonitoring getMonitoring() {
+        return container.getMonitoring();
+    }
+
+    @Override
+    public int getPort() {
+        return container.getPort();
+    }
+
+    @Override
+    public int getPortRouting() {
+        return container.getPortRouting();
+    }
+
+    @Override
+    public int getPortMonitoring() {
+        return container.getPortMonitoring();
+    }
+
+    @Nullable
+    @Override
+    public NatsTls getTls() {
+        return container.getTls();
+    }
+
+    /**
+     * Removes lease account from server via configuration reload
+     */
+    @Override
+    public void close() {
+        pool.release(this);
+    }
+
+    @Override
+    public String toString() {
+        return "[account=" + account + ", container=" + container.getContainerId() + ']';
+    }
+}
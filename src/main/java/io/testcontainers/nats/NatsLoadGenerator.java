@@ -0,0 +1,353 @@
+package io.testcontainers.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Publish/subscribe and request/reply load generator against any {@link NatsStartable}, for {@link NatsCluster}
+ * connections are spread across all nodes.
+ * <p>
+ * Each publisher publishes configured number of messages that are delivered to every subscriber, each
+ * message carries publish timestamp so publish to delivery latency is recorded by subscribers. Each
+ * request/reply pair performs configured number of sequential requests and records round trip latency.
+ * <p>
+ * Requires <a href="https://github.com/nats-io/nats.java">jnats</a> and
+ * <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a> on classpath.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsLoadGenerator {
+
+    private static final long LATENCY_MAX = TimeUnit.MINUTES.toNanos(1);
+    private static final int LATENCY_DIGITS = 3;
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final class Subscriber {
+
+        private final Histogram latency = new Histogram(LATENCY_MAX, LATENCY_DIGITS);
+        private final CountDownLatch latch;
+
+        private Subscriber(long expected) {
+            this.latch = new CountDownLatch((int) expected);
+        }
+
+        private void onMessage(Message message) {
+            final long latencyNanos = System.nanoTime() - readLong(message.getData());
+            synchronized (latency) {
+                latency.recordValue(Math.min(Math.max(latencyNanos, 0), LATENCY_MAX));
+            }
+            latch.countDown();
+        }
+    }
+
+    private final NatsStartable startable;
+
+    private int publishers = 1;
+    private int subscribers = 1;
+    private int requestReplyPairs = 0;
+    private long messages = 10_000;
+    private long requests = 1_000;
+    private int messageSize = 128;
+    private int rate = 0;
+    private String subject = "load";
+    private Duration timeout = Duration.ofMinutes(1);
+
+    private NatsLoadGenerator(NatsStartable startable) {
+        this.startable = startable;
+    }
+
+    public static NatsLoadGenerator of(NatsStartable startable) {
+        return new NatsLoadGenerator(Objects.requireNonNull(startable));
+    }
+
+    public NatsLoadGenerator withPublishers(int publishers) {
+        this.publishers = publishers;
+        return this;
+    }
+
+    public NatsLoadGenerator withSubscribers(int subscribers) {
+        this.subscribers = subscribers;
+        return this;
+    }
+
+    public NatsLoadGenerator withRequestReplyPairs(int requestReplyPairs) {
+        this.requestReplyPairs = requestReplyPairs;
+        return this;
+    }
+
+    /**
+     * @param messages number of messages each publisher publishes
+     * @return self
+     */
+    public NatsLoadGenerator withMessages(long messages) {
+        this.messages = messages;
+        return this;
+    }
+
+    /**
+     * @param requests number of requests each request/reply pair performs
+     * @return self
+     */
+    public NatsLoadGenerator withRequests(long requests) {
+        this.requests = requests;
+        return this;
+    }
+
+    /**
+     * @param messageSize in bytes, can not be less than 8 bytes as message carries publish timestamp
+     * @return self
+     */
+    public NatsLoadGenerator withMessageSize(int messageSize) {
+        this.messageSize = messageSize;
+        return this;
+    }
+
+    /**
+     * @param rate messages per second for each publisher, 0 means publishers are not limited and latency
+     *                 includes queueing
+     * @return self
+     */
+    public NatsLoadGenerator withRate(int rate) {
+        this.rate = rate;
+        return this;
+    }
+
+    /**
+     * @param subject prefix for load subjects
+     * @return self
+     */
+    public NatsLoadGenerator withSubject(String subject) {
+        this.subject = Objects.requireNonNull(subject);
+        return this;
+    }
+
+    /**
+     * @param timeout for whole load run
+     * @return self
+     */
+    public NatsLoadGenerator withTimeout(Duration timeout) {
+        this.timeout = Objects.requireNonNull(timeout);
+        return this;
+    }
+
+    public NatsLoadReport run() {
+        if (messageSize < Long.BYTES)
+            throw new IllegalArgumentException("Message size can not be less " + Long.BYTES);
+        if (publishers < 0 || subscribers < 0 || requestReplyPairs < 0)
+            throw new IllegalArgumentException("Publishers, subscribers and request/reply pairs can not be negative");
+        if ((long) publishers * messages > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Messages per subscriber can not be greater " + Integer.MAX_VALUE);
+
+        final List<String> servers = NatsClients.getServers(startable);
+        final String pubSubject = subject + ".pubsub";
+        final String requestSubject = subject + ".request";
+        final String readySubject = subject + ".ready.";
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        final List<Connection> connections = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, publishers + requestReplyPairs));
+        try {
+            // Interest is registered first, ready subject is subscribed last so reply to it proves interest propagated
+            int readySubjects = 0;
+            final List<Subscriber> subscriberList = new ArrayList<>(subscribers);
+            for (int i = 0; i < subscribers; i++) {
+                final Connection connection = connect(servers, connections);
+                final Subscriber subscriber = new Subscriber(publishers * messages);
+                connection.createDispatcher(subscriber::onMessage).subscribe(pubSubject);
+                respond(connection, readySubject + readySubjects++, false);
+                subscriberList.add(subscriber);
+            }
+
+            for (int i = 0; i < requestReplyPairs; i++) {
+                final Connection connection = connect(servers, connections);
+                respond(connection, requestSubject, true);
+                respond(connection, readySubject + readySubjects++, false);
+            }
+
+            final List<Connection> publisherConnections = new ArrayList<>(publishers);
+            for (int i = 0; i < publishers; i++) {
+                publisherConnections.add(connect(servers, connections));
+            }
+
+            final List<Connection> requesterConnections = new ArrayList<>(requestReplyPairs);
+            for (int i = 0; i < requestReplyPairs; i++) {
+                requesterConnections.add(connect(servers, connections));
+            }
+
+            for (Connection connection : connections) {
+                connection.flush(remaining(deadline));
+            }
+            for (Connection connection : publisherConnections) {
+                awaitReady(connection, readySubject, readySubjects, deadline);
+            }
+            for (Connection connection : requesterConnections) {
+                awaitReady(connection, readySubject, readySubjects, deadline);
+            }
+
+            final long started = System.nanoTime();
+            final List<Future<?>> publisherFutures = new ArrayList<>(publishers);
+            for (Connection connection : publisherConnections) {
+                publisherFutures.add(executor.submit(() -> publish(connection, pubSubject, deadline)));
+            }
+
+            final List<Future<Histogram>> requesterFutures = new ArrayList<>(requestReplyPairs);
+            for (Connection connection : requesterConnections) {
+                requesterFutures.add(executor.submit(() -> request(connection, requestSubject, deadline)));
+            }
+
+            for (Future<?> future : publisherFutures) {
+                future.get(remaining(deadline).toNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            final Histogram requestLatency = new Histogram(LATENCY_MAX, LATENCY_DIGITS);
+            for (Future<Histogram> future : requesterFutures) {
+                requestLatency.add(future.get(remaining(deadline).toNanos(), TimeUnit.NANOSECONDS));
+            }
+
+            final Histogram latency = new Histogram(LATENCY_MAX, LATENCY_DIGITS);
+            long received = 0;
+            for (Subscriber subscriber : subscriberList) {
+                subscriber.latch.await(remaining(deadline).toNanos(), TimeUnit.NANOSECONDS);
+            }
+            final Duration duration = Duration.ofNanos(System.nanoTime() - started);
+
+            for (Subscriber subscriber : subscriberList) {
+                received += publishers * messages - subscriber.latch.getCount();
+                synchronized (subscriber.latency) {
+                    latency.add(subscriber.latency);
+                }
+            }
+
+            return new NatsLoadReport(duration,
+                    publishers * messages,
+                    received,
+                    requestLatency.getTotalCount(),
+                    messageSize,
+                    latency,
+                    requestLatency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Load run timed out after: " + timeout, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Load run failed", e);
+        } finally {
+            executor.shutdownNow();
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private Connection connect(List<String> servers, List<Connection> connections) {
+        final String server = servers.get(connections.size() % servers.size());
+        final Connection connection = NatsClients.connect(NatsClients.getOptions(startable, server).build());
+        connections.add(connection);
+        return connection;
+    }
+
+    private static void respond(Connection connection, String subject, boolean echo) {
+        connection.createDispatcher(message -> connection.publish(message.getReplyTo(),
+                (echo) ? message.getData() : EMPTY))
+                .subscribe(subject);
+    }
+
+    private static void awaitReady(Connection connection, String readySubject, int readySubjects, long deadline)
+            throws InterruptedException, TimeoutException {
+        for (int i = 0; i < readySubjects; i++) {
+            while (true) {
+                if (System.nanoTime() > deadline) {
+                    throw new TimeoutException("Subscribers interest is not propagated to all servers");
+                }
+
+                try {
+                    if (connection.request(readySubject + i, EMPTY, Duration.ofMillis(250)) != null) {
+                        break;
+                    }
+                } catch (IllegalStateException e) {
+                    // no responders yet
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private Void publish(Connection connection, String subject, long deadline) throws Exception {
+        final long interval = (rate > 0)
+                ? TimeUnit.SECONDS.toNanos(1) / rate
+                : 0;
+
+        final long started = System.nanoTime();
+        for (long i = 0; i < messages; i++) {
+            if (interval > 0) {
+                final long target = started + i * interval;
+                long now;
+                while ((now = System.nanoTime()) < target) {
+                    LockSupport.parkNanos(target - now);
+                }
+            }
+
+            final byte[] data = new byte[messageSize];
+            writeLong(data, System.nanoTime());
+            connection.publish(subject, data);
+        }
+
+        connection.flush(remaining(deadline));
+        return null;
+    }
+
+    private Histogram request(Connection connection, String subject, long deadline) throws Exception {
+        final Histogram latency = new Histogram(LATENCY_MAX, LATENCY_DIGITS);
+        final byte[] data = new byte[messageSize];
+        for (long i = 0; i < requests; i++) {
+            final long started = System.nanoTime();
+            final Message reply = connection.request(subject, data, remaining(deadline));
+            if (reply == null) {
+                throw new TimeoutException("Request timed out on subject: " + subject);
+            }
+            latency.recordValue(Math.min(System.nanoTime() - started, LATENCY_MAX));
+        }
+        return latency;
+    }
+
+    private static Duration remaining(long deadline) throws TimeoutException {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException("Load run deadline exceeded");
+        }
+        return Duration.ofNanos(remaining);
+    }
+
+    private static void writeLong(byte[] data, long value) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            data[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] data) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (data[i] & 0xFF);
+        }
+        return value;
+    }
+}
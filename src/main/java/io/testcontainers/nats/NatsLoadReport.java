@@ -0,0 +1,125 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of {@link NatsLoadGenerator} run, latencies are recorded in nanoseconds.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsLoadReport {
+
+    private final Duration duration;
+    private final long published;
+    private final long received;
+    private final long requests;
+    private final long messageSize;
+    private final Histogram latency;
+    private final Histogram requestLatency;
+
+    NatsLoadReport(Duration duration,
+                   long published,
+                   long received,
+                   long requests,
+                   long messageSize,
+                   Histogram latency,
+                   Histogram requestLatency) {
+        this.duration = duration;
+        this.published = published;
+        this.received = received;
+        this.requests = requests;
+        this.messageSize = messageSize;
+        this.latency = latency;
+        this.requestLatency = requestLatency;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public double getPublishedPerSecond() {
+        return perSecond(published);
+    }
+
+    public double getReceivedPerSecond() {
+        return perSecond(received);
+    }
+
+    public double getRequestsPerSecond() {
+        return perSecond(requests);
+    }
+
+    public double getPublishedBytesPerSecond() {
+        return perSecond(published * messageSize);
+    }
+
+    public double getReceivedBytesPerSecond() {
+        return perSecond(received * messageSize);
+    }
+
+    /**
+     * @return publish to delivery latency histogram in nanoseconds
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return request to reply round trip latency histogram in nanoseconds
+     */
+    public Histogram getRequestLatency() {
+        return requestLatency;
+    }
+
+    /**
+     * @param percentile to get, e.g. 99.9
+     * @return publish to delivery latency at percentile
+     */
+    public Duration getLatencyAtPercentile(double percentile) {
+        return Duration.ofNanos(latency.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * @param percentile to get, e.g. 99.9
+     * @return request to reply round trip latency at percentile
+     */
+    public Duration getRequestLatencyAtPercentile(double percentile) {
+        return Duration.ofNanos(requestLatency.getValueAtPercentile(percentile));
+    }
+
+    private double perSecond(long value) {
+        final long nanos = duration.toNanos();
+        return (nanos == 0)
+                ? 0
+                : value * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "[duration=" + duration
+                + ", published=" + published
+                + ", received=" + received
+                + ", requests=" + requests
+                + ", receivedPerSecond=" + Math.round(getReceivedPerSecond())
+                + ", receivedBytesPerSecond=" + Math.round(getReceivedBytesPerSecond())
+                + ", latencyP50=" + getLatencyAtPercentile(50)
+                + ", latencyP99=" + getLatencyAtPercentile(99)
+                + ", latencyP999=" + getLatencyAtPercentile(99.9)
+                + ", requestLatencyP50=" + getRequestLatencyAtPercentile(50)
+                + ", requestLatencyP99=" + getRequestLatencyAtPercentile(99) + ']';
+    }
+}
@@ -0,0 +1,67 @@
+package io.testcontainers.nats;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * Fixed size ring buffer of last container log lines, frames are stored as received and decoded only when lines are
+ * requested, so log capture cost does not depend on logger configuration or server log verbosity.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsContainer#withLogBuffer(int)
+ * @since 17.10.2026
+ */
+final class NatsLogBuffer implements Consumer<OutputFrame> {
+
+    private final byte[][] frames;
+    private long written = 0;
+
+    NatsLogBuffer(int lines) {
+        if (lines < 1)
+            throw new IllegalArgumentException("Log buffer lines can not be less 1, but was: " + lines);
+        this.frames = new byte[lines][];
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        final byte[] bytes = frame.getBytes();
+        if (frame.getType() == OutputFrame.OutputType.END || bytes == null) {
+            return;
+        }
+
+        synchronized (this) {
+            frames[(int) (written % frames.length)] = bytes;
+            written++;
+        }
+    }
+
+    /**
+     * @return buffered lines from oldest to newest
+     */
+    synchronized List<String> getLines() {
+        final int size = (int) Math.min(written, frames.length);
+        final List<String> lines = new ArrayList<>(size);
+        for (long i = written - size; i < written; i++) {
+            lines.add(toLine(frames[(int) (i % frames.length)]));
+        }
+        return lines;
+    }
+
+    /**
+     * @return number of lines that were overwritten by newer ones
+     */
+    synchronized long getDropped() {
+        return Math.max(0, written - frames.length);
+    }
+
+    private static String toLine(byte[] bytes) {
+        int length = bytes.length;
+        while (length > 0 && (bytes[length - 1] == '\n' || bytes[length - 1] == '\r')) {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,946 @@
+package io.testcontainers.nats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Typed client for NATS server <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring">monitoring
+ * endpoints</a>.
+ * <p>
+ * All clients share single HTTP client, async methods do not block calling thread and are suitable for parallel
+ * polling of multiple servers.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsMonitoring {
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#general-information">/varz</a>
+     */
+    public static final class Varz {
+
+        private final String serverId;
+        private final String serverName;
+        private final String version;
+        private final String configLoadTime;
+        private final int cores;
+        private final double cpu;
+        private final long mem;
+        private final long maxPayload;
+        private final long maxPending;
+        private final int maxConnections;
+        private final int connections;
+        private final long totalConnections;
+        private final int routes;
+        private final int remotes;
+        private final long inMsgs;
+        private final long outMsgs;
+        private final long inBytes;
+        private final long outBytes;
+        private final long slowConsumers;
+        private final long subscriptions;
+        private final boolean tlsRequired;
+        private final boolean tlsVerify;
+        private final boolean clusterTlsRequired;
+        private final boolean clusterTlsVerify;
+
+        private Varz(JsonNode node) {
+            this.serverId = node.path("server_id").asText();
+            this.serverName = node.path("server_name").asText();
+            this.version = node.path("version").asText();
+            this.configLoadTime = node.path("config_load_time").asText();
+            this.cores = node.path("cores").asInt();
+            this.cpu = node.path("cpu").asDouble();
+            this.mem = node.path("mem").asLong();
+            this.maxPayload = node.path("max_payload").asLong();
+            this.maxPending = node.path("max_pending").asLong();
+            this.maxConnections = node.path("max_connections").asInt();
+            this.connections = node.path("connections").asInt();
+            this.totalConnections = node.path("total_connections").asLong();
+            this.routes = node.path("routes").asInt();
+            this.remotes = node.path("remotes").asInt();
+            this.inMsgs = node.path("in_msgs").asLong();
+            this.outMsgs = node.path("out_msgs").asLong();
+            this.inBytes = node.path("in_bytes").asLong();
+            this.outBytes = node.path("out_bytes").asLong();
+            this.slowConsumers = node.path("slow_consumers").asLong();
+            this.subscriptions = node.path("subscriptions").asLong();
+            this.tlsRequired = node.path("tls_required").asBoolean();
+            this.tlsVerify = node.path("tls_verify").asBoolean();
+            this.clusterTlsRequired = node.path("cluster").path("tls_required").asBoolean();
+            this.clusterTlsVerify = node.path("cluster").path("tls_verify").asBoolean();
+        }
+
+        public String getServerId() {
+            return serverId;
+        }
+
+        public String getServerName() {
+            return serverName;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public String getConfigLoadTime() {
+            return configLoadTime;
+        }
+
+        public int getCores() {
+            return cores;
+        }
+
+        /**
+         * @return CPU usage percentage
+         */
+        public double getCpu() {
+            return cpu;
+        }
+
+        /**
+         * @return resident memory in bytes
+         */
+        public long getMem() {
+            return mem;
+        }
+
+        public long getMaxPayload() {
+            return maxPayload;
+        }
+
+        public long getMaxPending() {
+            return maxPending;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public long getTotalConnections() {
+            return totalConnections;
+        }
+
+        public int getRoutes() {
+            return routes;
+        }
+
+        public int getRemotes() {
+            return remotes;
+        }
+
+        public long getInMsgs() {
+            return inMsgs;
+        }
+
+        public long getOutMsgs() {
+            return outMsgs;
+        }
+
+        public long getInBytes() {
+            return inBytes;
+        }
+
+        public long getOutBytes() {
+            return outBytes;
+        }
+
+        public long getSlowConsumers() {
+            return slowConsumers;
+        }
+
+        public long getSubscriptions() {
+            return subscriptions;
+        }
+
+        /**
+         * @return true if client connections require TLS
+         */
+        public boolean isTlsRequired() {
+            return tlsRequired;
+        }
+
+        /**
+         * @return true if client connections must present verified certificate
+         */
+        public boolean isTlsVerify() {
+            return tlsVerify;
+        }
+
+        /**
+         * @return true if route connections require TLS
+         */
+        public boolean isClusterTlsRequired() {
+            return clusterTlsRequired;
+        }
+
+        /**
+         * @return true if route connections must present verified certificate
+         */
+        public boolean isClusterTlsVerify() {
+            return clusterTlsVerify;
+        }
+
+        @Override
+        public String toString() {
+            return "[serverName=" + serverName + ", connections=" + connections + ", routes=" + routes
+                    + ", inMsgs=" + inMsgs + ", outMsgs=" + outMsgs + ", cpu=" + cpu + ", mem=" + mem + ']';
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#connection-information">/connz</a>
+     */
+    public static final class Connz {
+
+        public static final class Connection {
+
+            private final long cid;
+            private final String name;
+            private final String ip;
+            private final int port;
+            private final String account;
+            private final long pendingBytes;
+            private final long inMsgs;
+            private final long outMsgs;
+            private final long inBytes;
+            private final long outBytes;
+            private final long subscriptions;
+
+            private Connection(JsonNode node) {
+                this.cid = node.path("cid").asLong();
+                this.name = node.path("name").asText();
+                this.ip = node.path("ip").asText();
+                this.port = node.path("port").asInt();
+                this.account = node.path("account").asText();
+                this.pendingBytes = node.path("pending_bytes").asLong();
+                this.inMsgs = node.path("in_msgs").asLong();
+                this.outMsgs = node.path("out_msgs").asLong();
+                this.inBytes = node.path("in_bytes").asLong();
+                this.outBytes = node.path("out_bytes").asLong();
+                this.subscriptions = node.path("subscriptions").asLong();
+            }
+
+            public long getCid() {
+                return cid;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public String getIp() {
+                return ip;
+            }
+
+            public int getPort() {
+                return port;
+            }
+
+            public String getAccount() {
+                return account;
+            }
+
+            public long getPendingBytes() {
+                return pendingBytes;
+            }
+
+            public long getInMsgs() {
+                return inMsgs;
+            }
+
+            public long getOutMsgs() {
+                return outMsgs;
+            }
+
+            public long getInBytes() {
+                return inBytes;
+            }
+
+            public long getOutBytes() {
+                return outBytes;
+            }
+
+            public long getSubscriptions() {
+                return subscriptions;
+            }
+        }
+
+        private final int numConnections;
+        private final int total;
+        private final List<Connection> connections;
+
+        private Connz(JsonNode node) {
+            this.numConnections = node.path("num_connections").asInt();
+            this.total = node.path("total").asInt();
+            this.connections = getList(node.path("connections"), Connection::new);
+        }
+
+        public int getNumConnections() {
+            return numConnections;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public List<Connection> getConnections() {
+            return connections;
+        }
+
+        /**
+         * @return sum of pending bytes of connections in this response, server returns up to 1024 connections
+         *             unless limit is specified via {@link #connz(int, int)}
+         */
+        public long getPendingBytes() {
+            long pending = 0;
+            for (Connection connection : connections) {
+                pending += connection.pendingBytes;
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#route-information">/routez</a>
+     */
+    public static final class Routez {
+
+        public static final class Route {
+
+            private final long rid;
+            private final String remoteId;
+            private final String remoteName;
+            private final String ip;
+            private final int port;
+            private final boolean didSolicit;
+            private final boolean configured;
+            private final long pendingSize;
+            private final long inMsgs;
+            private final long outMsgs;
+            private final long inBytes;
+            private final long outBytes;
+            private final long subscriptions;
+
+            private Route(JsonNode node) {
+                this.rid = node.path("rid").asLong();
+                this.remoteId = node.path("remote_id").asText();
+                this.remoteName = node.path("remote_name").asText();
+                this.ip = node.path("ip").asText();
+                this.port = node.path("port").asInt();
+                this.didSolicit = node.path("did_solicit").asBoolean();
+                this.configured = node.path("is_configured").asBoolean();
+                this.pendingSize = node.path("pending_size").asLong();
+                this.inMsgs = node.path("in_msgs").asLong();
+                this.outMsgs = node.path("out_msgs").asLong();
+                this.inBytes = node.path("in_bytes").asLong();
+                this.outBytes = node.path("out_bytes").asLong();
+                this.subscriptions = node.path("subscriptions").asLong();
+            }
+
+            public long getRid() {
+                return rid;
+            }
+
+            public String getRemoteId() {
+                return remoteId;
+            }
+
+            public String getRemoteName() {
+                return remoteName;
+            }
+
+            public String getIp() {
+                return ip;
+            }
+
+            public int getPort() {
+                return port;
+            }
+
+            public boolean isDidSolicit() {
+                return didSolicit;
+            }
+
+            public boolean isConfigured() {
+                return configured;
+            }
+
+            public long getPendingSize() {
+                return pendingSize;
+            }
+
+            public long getInMsgs() {
+                return inMsgs;
+            }
+
+            public long getOutMsgs() {
+                return outMsgs;
+            }
+
+            public long getInBytes() {
+                return inBytes;
+            }
+
+            public long getOutBytes() {
+                return outBytes;
+            }
+
+            public long getSubscriptions() {
+                return subscriptions;
+            }
+        }
+
+        private final String serverId;
+        private final int numRoutes;
+        private final List<Route> routes;
+
+        private Routez(JsonNode node) {
+            this.serverId = node.path("server_id").asText();
+            this.numRoutes = node.path("num_routes").asInt();
+            this.routes = getList(node.path("routes"), Route::new);
+        }
+
+        public String getServerId() {
+            return serverId;
+        }
+
+        /**
+         * @return number of route connections, can be greater than number of remote servers due to route pooling
+         */
+        public int getNumRoutes() {
+            return numRoutes;
+        }
+
+        /**
+         * @return number of distinct remote servers this server has routes to
+         */
+        public int getRemoteServers() {
+            return (int) routes.stream()
+                    .map(Route::getRemoteId)
+                    .distinct()
+                    .count();
+        }
+
+        public List<Route> getRoutes() {
+            return routes;
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#subscription-routing-information">/subsz</a>
+     */
+    public static final class Subsz {
+
+        private final long numSubscriptions;
+        private final long numCache;
+        private final long numInserts;
+        private final long numRemoves;
+        private final long numMatches;
+        private final double cacheHitRate;
+        private final long maxFanout;
+        private final double avgFanout;
+
+        private Subsz(JsonNode node) {
+            this.numSubscriptions = node.path("num_subscriptions").asLong();
+            this.numCache = node.path("num_cache").asLong();
+            this.numInserts = node.path("num_inserts").asLong();
+            this.numRemoves = node.path("num_removes").asLong();
+            this.numMatches = node.path("num_matches").asLong();
+            this.cacheHitRate = node.path("cache_hit_rate").asDouble();
+            this.maxFanout = node.path("max_fanout").asLong();
+            this.avgFanout = node.path("avg_fanout").asDouble();
+        }
+
+        public long getNumSubscriptions() {
+            return numSubscriptions;
+        }
+
+        public long getNumCache() {
+            return numCache;
+        }
+
+        public long getNumInserts() {
+            return numInserts;
+        }
+
+        public long getNumRemoves() {
+            return numRemoves;
+        }
+
+        public long getNumMatches() {
+            return numMatches;
+        }
+
+        public double getCacheHitRate() {
+            return cacheHitRate;
+        }
+
+        public long getMaxFanout() {
+            return maxFanout;
+        }
+
+        public double getAvgFanout() {
+            return avgFanout;
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#jetstream-information">/jsz</a>
+     */
+    public static final class Jsz {
+
+        private final boolean disabled;
+        private final long memory;
+        private final long storage;
+        private final long reservedMemory;
+        private final long reservedStorage;
+        private final long maxMemory;
+        private final long maxStorage;
+        private final int accounts;
+        private final int haAssets;
+        private final long streams;
+        private final long consumers;
+        private final long messages;
+        private final long bytes;
+        @Nullable
+        private final String metaLeader;
+        private final int metaClusterSize;
+
+        private Jsz(JsonNode node) {
+            this.disabled = node.path("disabled").asBoolean();
+            this.memory = node.path("memory").asLong();
+            this.storage = node.path("storage").asLong();
+            this.reservedMemory = node.path("reserved_memory").asLong();
+            this.reservedStorage = node.path("reserved_storage").asLong();
+            this.maxMemory = node.path("config").path("max_memory").asLong();
+            this.maxStorage = node.path("config").path("max_storage").asLong();
+            this.accounts = node.path("accounts").asInt();
+            this.haAssets = node.path("ha_assets").asInt();
+            this.streams = node.path("streams").asLong();
+            this.consumers = node.path("consumers").asLong();
+            this.messages = node.path("messages").asLong();
+            this.bytes = node.path("bytes").asLong();
+
+            final String leader = node.path("meta_cluster").path("leader").asText();
+            this.metaLeader = (leader.isEmpty())
+                    ? null
+                    : leader;
+            this.metaClusterSize = node.path("meta_cluster").path("cluster_size").asInt();
+        }
+
+        public boolean isDisabled() {
+            return disabled;
+        }
+
+        public long getMemory() {
+            return memory;
+        }
+
+        public long getStorage() {
+            return storage;
+        }
+
+        public long getReservedMemory() {
+            return reservedMemory;
+        }
+
+        public long getReservedStorage() {
+            return reservedStorage;
+        }
+
+        public long getMaxMemory() {
+            return maxMemory;
+        }
+
+        public long getMaxStorage() {
+            return maxStorage;
+        }
+
+        public int getAccounts() {
+            return accounts;
+        }
+
+        public int getHaAssets() {
+            return haAssets;
+        }
+
+        public long getStreams() {
+            return streams;
+        }
+
+        public long getConsumers() {
+            return consumers;
+        }
+
+        public long getMessages() {
+            return messages;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return name of JetStream meta leader or null if there is no leader (or server is not clustered)
+         */
+        @Nullable
+        public String getMetaLeader() {
+            return metaLeader;
+        }
+
+        public int getMetaClusterSize() {
+            return metaClusterSize;
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#gateway-information">/gatewayz</a>
+     */
+    public static final class Gatewayz {
+
+        private final String serverId;
+        private final String name;
+        private final Map<String, String> outboundGateways;
+        private final List<String> inboundGateways;
+
+        private Gatewayz(JsonNode node) {
+            this.serverId = node.path("server_id").asText();
+            this.name = node.path("name").asText();
+
+            final Map<String, String> outbound = new LinkedHashMap<>();
+            node.path("outbound_gateways").fields().forEachRemaining(e -> {
+                final JsonNode connection = e.getValue().path("connection");
+                if (!connection.isMissingNode()) {
+                    outbound.put(e.getKey(), connection.path("rtt").asText());
+                }
+            });
+            this.outboundGateways = Collections.unmodifiableMap(outbound);
+
+            final List<String> inbound = new ArrayList<>();
+            node.path("inbound_gateways").fieldNames().forEachRemaining(inbound::add);
+            this.inboundGateways = Collections.unmodifiableList(inbound);
+        }
+
+        public String getServerId() {
+            return serverId;
+        }
+
+        /**
+         * @return gateway name of this server cluster
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return connected outbound gateway names with last measured round trip time
+         */
+        public Map<String, String> getOutboundGateways() {
+            return outboundGateways;
+        }
+
+        /**
+         * @return gateway names with inbound connections to this server
+         */
+        public List<String> getInboundGateways() {
+            return inboundGateways;
+        }
+    }
+
+    /**
+     * <a href="https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#leaf-node-information">/leafz</a>
+     */
+    public static final class Leafz {
+
+        public static final class Leaf {
+
+            private final String name;
+            private final String account;
+            private final String ip;
+            private final int port;
+            private final String rtt;
+            private final boolean spoke;
+            private final long inMsgs;
+            private final long outMsgs;
+            private final long inBytes;
+            private final long outBytes;
+            private final long subscriptions;
+
+            private Leaf(JsonNode node) {
+                this.name = node.path("name").asText();
+                this.account = node.path("account").asText();
+                this.ip = node.path("ip").asText();
+                this.port = node.path("port").asInt();
+                this.rtt = node.path("rtt").asText();
+                this.spoke = node.path("is_spoke").asBoolean();
+                this.inMsgs = node.path("in_msgs").asLong();
+                this.outMsgs = node.path("out_msgs").asLong();
+                this.inBytes = node.path("in_bytes").asLong();
+                this.outBytes = node.path("out_bytes").asLong();
+                this.subscriptions = node.path("subscriptions").asLong();
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public String getAccount() {
+                return account;
+            }
+
+            public String getIp() {
+                return ip;
+            }
+
+            public int getPort() {
+                return port;
+            }
+
+            public String getRtt() {
+                return rtt;
+            }
+
+            /**
+             * @return true if this server is leaf node that dialed connection to hub
+             */
+            public boolean isSpoke() {
+                return spoke;
+            }
+
+            public long getInMsgs() {
+                return inMsgs;
+            }
+
+            public long getOutMsgs() {
+                return outMsgs;
+            }
+
+            public long getInBytes() {
+                return inBytes;
+            }
+
+            public long getOutBytes() {
+                return outBytes;
+            }
+
+            public long getSubscriptions() {
+                return subscriptions;
+            }
+        }
+
+        private final String serverId;
+        private final int leafNodes;
+        private final List<Leaf> leafs;
+
+        private Leafz(JsonNode node) {
+            this.serverId = node.path("server_id").asText();
+            this.leafNodes = node.path("leafnodes").asInt();
+            this.leafs = getList(node.path("leafs"), Leaf::new);
+        }
+
+        public String getServerId() {
+            return serverId;
+        }
+
+        /**
+         * @return number of leaf node connections
+         */
+        public int getLeafNodes() {
+            return leafNodes;
+        }
+
+        public List<Leaf> getLeafs() {
+            return leafs;
+        }
+    }
+
+    private final URI uri;
+    private final URI varzURI;
+    private final URI connzURI;
+    private final URI routezURI;
+    private final URI subszURI;
+    private final URI jszURI;
+    private final URI gatewayzURI;
+    private final URI leafzURI;
+    private final URI healthzURI;
+
+    /**
+     * @param host of NATS server monitoring endpoint
+     * @param port of NATS server monitoring endpoint
+     */
+    public NatsMonitoring(String host, int port) {
+        this.uri = URI.create(String.format("http://%s:%s", host, port));
+        this.varzURI = uri.resolve("/varz");
+        this.connzURI = uri.resolve("/connz");
+        this.routezURI = uri.resolve("/routez");
+        this.subszURI = uri.resolve("/subsz");
+        this.jszURI = uri.resolve("/jsz");
+        this.gatewayzURI = uri.resolve("/gatewayz");
+        this.leafzURI = uri.resolve("/leafz");
+        this.healthzURI = uri.resolve("/healthz");
+    }
+
+    /**
+     * @param uri of any NATS server monitoring endpoint, only host and port are used
+     * @return monitoring client for server
+     */
+    public static NatsMonitoring of(URI uri) {
+        if (uri.getHost() == null || uri.getPort() == -1)
+            throw new IllegalArgumentException("Monitoring URI must contain host and port, but was: " + uri);
+
+        return new NatsMonitoring(uri.getHost(), uri.getPort());
+    }
+
+    public URI getURI() {
+        return uri;
+    }
+
+    /**
+     * @return true if server reports healthy state via /healthz
+     */
+    public boolean isHealthy() {
+        try {
+            return NatsHttp.status(healthzURI) == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public Varz varz() {
+        return get(varzURI, Varz::new);
+    }
+
+    public Connz connz() {
+        return get(connzURI, Connz::new);
+    }
+
+    /**
+     * @param offset of first connection to return
+     * @param limit  of connections to return, server returns up to 1024 connections by default
+     * @return connections page
+     */
+    public Connz connz(int offset, int limit) {
+        return get(getConnzURI(offset, limit), Connz::new);
+    }
+
+    public Routez routez() {
+        return get(routezURI, Routez::new);
+    }
+
+    public Subsz subsz() {
+        return get(subszURI, Subsz::new);
+    }
+
+    public Jsz jsz() {
+        return get(jszURI, Jsz::new);
+    }
+
+    public Gatewayz gatewayz() {
+        return get(gatewayzURI, Gatewayz::new);
+    }
+
+    public Leafz leafz() {
+        return get(leafzURI, Leafz::new);
+    }
+
+    public CompletableFuture<Varz> varzAsync() {
+        return NatsHttp.getAsync(varzURI).thenApply(Varz::new);
+    }
+
+    public CompletableFuture<Connz> connzAsync() {
+        return NatsHttp.getAsync(connzURI).thenApply(Connz::new);
+    }
+
+    public CompletableFuture<Connz> connzAsync(int offset, int limit) {
+        return NatsHttp.getAsync(getConnzURI(offset, limit)).thenApply(Connz::new);
+    }
+
+    public CompletableFuture<Routez> routezAsync() {
+        return NatsHttp.getAsync(routezURI).thenApply(Routez::new);
+    }
+
+    public CompletableFuture<Subsz> subszAsync() {
+        return NatsHttp.getAsync(subszURI).thenApply(Subsz::new);
+    }
+
+    public CompletableFuture<Jsz> jszAsync() {
+        return NatsHttp.getAsync(jszURI).thenApply(Jsz::new);
+    }
+
+    public CompletableFuture<Gatewayz> gatewayzAsync() {
+        return NatsHttp.getAsync(gatewayzURI).thenApply(Gatewayz::new);
+    }
+
+    public CompletableFuture<Leafz> leafzAsync() {
+        return NatsHttp.getAsync(leafzURI).thenApply(Leafz::new);
+    }
+
+    private URI getConnzURI(int offset, int limit) {
+        if (offset < 0 || limit < 1)
+            throw new IllegalArgumentException("Offset can not be negative and limit can not be less 1, but was: "
+                    + offset + " and " + limit);
+
+        return uri.resolve("/connz?offset=" + offset + "&limit=" + limit);
+    }
+
+    private static <T> T get(URI uri, Function<JsonNode, T> mapper) {
+        try {
+            return mapper.apply(NatsHttp.get(uri));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed monitoring request for URI: " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted monitoring request for URI: " + uri, e);
+        }
+    }
+
+    private static <T> List<T> getList(JsonNode array, Function<JsonNode, T> mapper) {
+        if (!array.isArray() || array.size() == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<T> list = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            list.add(mapper.apply(node));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @param future to wait for
+     * @return future result with {@link UncheckedIOException} and {@link CompletionException} unwrapped to
+     *             {@link IllegalStateException}
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed monitoring request", e.getCause());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
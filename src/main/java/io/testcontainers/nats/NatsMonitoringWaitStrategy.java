@@ -0,0 +1,71 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * Waits until NATS server reports healthy state via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#health">/healthz</a> and monitoring probe
+ * reports at least expected count, e.g. routes, gateways or leaf nodes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class NatsMonitoringWaitStrategy extends AbstractWaitStrategy {
+
+    private final String label;
+    private final int expected;
+    private final ToIntFunction<NatsMonitoring> probe;
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * @param label    of probed count used in messages, e.g. routes
+     * @param expected count probe should report
+     * @param probe    that gets count from server monitoring
+     */
+    NatsMonitoringWaitStrategy(String label, int expected, ToIntFunction<NatsMonitoring> probe) {
+        this.label = label;
+        this.expected = expected;
+        this.probe = probe;
+    }
+
+    public NatsMonitoringWaitStrategy withPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        final NatsMonitoring monitoring = new NatsMonitoring(waitStrategyTarget.getHost(),
+                waitStrategyTarget.getMappedPort(NatsContainer.PORT_MONITORING));
+
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+        int lastSeen = -1;
+        Exception lastException = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                if (monitoring.isHealthy()) {
+                    lastSeen = probe.applyAsInt(monitoring);
+                    if (lastSeen >= expected) {
+                        return;
+                    }
+                }
+            } catch (IllegalStateException e) {
+                lastException = e;
+            }
+
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for NATS " + label, e);
+            }
+        }
+
+        throw new ContainerLaunchException(String.format(
+                "Timed out waiting for NATS server %s to become healthy with %s %s, last seen %s: %s",
+                monitoring, expected, label, label, lastSeen), lastException);
+    }
+}
@@ -0,0 +1,142 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cluster recovery after node operation, all durations are measured from operation start using monitoring
+ * endpoints.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsCluster#killNode(String)
+ * @since 17.10.2026
+ */
+public final class NatsRecoveryReport {
+
+    public enum Operation {
+
+        /**
+         * Node is stopped gracefully with SIGTERM and removed
+         */
+        STOP,
+        /**
+         * Node is killed with SIGKILL and removed
+         */
+        KILL,
+        /**
+         * Node is paused via docker pause and unpaused after specified duration
+         */
+        PAUSE,
+        /**
+         * Node is stopped gracefully and started again as new container
+         */
+        RESTART,
+        /**
+         * Previously stopped or killed node is started again as new container
+         */
+        START
+    }
+
+    private final Operation operation;
+    private final String node;
+    private final Duration disruption;
+    private final Duration routesRecovered;
+    private final Duration clientsReconnected;
+    @Nullable
+    private final Duration metaLeaderElected;
+    @Nullable
+    private final String metaLeaderBefore;
+    @Nullable
+    private final String metaLeaderAfter;
+
+    NatsRecoveryReport(Operation operation,
+                       String node,
+                       Duration disruption,
+                       Duration routesRecovered,
+                       Duration clientsReconnected,
+                       @Nullable Duration metaLeaderElected,
+                       @Nullable String metaLeaderBefore,
+                       @Nullable String metaLeaderAfter) {
+        this.operation = operation;
+        this.node = node;
+        this.disruption = disruption;
+        this.routesRecovered = routesRecovered;
+        this.clientsReconnected = clientsReconnected;
+        this.metaLeaderElected = metaLeaderElected;
+        this.metaLeaderBefore = metaLeaderBefore;
+        this.metaLeaderAfter = metaLeaderAfter;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return alias of node operation was performed on
+     */
+    public String getNode() {
+        return node;
+    }
+
+    /**
+     * @return time spent performing operation itself, e.g. stopping container or staying paused
+     */
+    public Duration getDisruption() {
+        return disruption;
+    }
+
+    /**
+     * @return time until each running node has routes to all other running nodes
+     */
+    public Duration getRoutesRecovered() {
+        return routesRecovered;
+    }
+
+    /**
+     * @return time until running nodes have at least as many client connections as before operation
+     */
+    public Duration getClientsReconnected() {
+        return clientsReconnected;
+    }
+
+    /**
+     * @return time until each running node reports same running JetStream meta leader, null if JetStream is disabled
+     */
+    @Nullable
+    public Duration getMetaLeaderElected() {
+        return metaLeaderElected;
+    }
+
+    @Nullable
+    public String getMetaLeaderBefore() {
+        return metaLeaderBefore;
+    }
+
+    @Nullable
+    public String getMetaLeaderAfter() {
+        return metaLeaderAfter;
+    }
+
+    /**
+     * @return time until cluster fully recovered
+     */
+    public Duration getRecovered() {
+        return Stream.of(routesRecovered, clientsReconnected, metaLeaderElected)
+                .filter(d -> d != null)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    @Override
+    public String toString() {
+        return "[operation=" + operation
+                + ", node=" + node
+                + ", disruption=" + disruption
+                + ", routesRecovered=" + routesRecovered
+                + ", clientsReconnected=" + clientsReconnected
+                + ", metaLeaderElected=" + metaLeaderElected
+                + ", metaLeaderBefore=" + metaLeaderBefore
+                + ", metaLeaderAfter=" + metaLeaderAfter + ']';
+    }
+}
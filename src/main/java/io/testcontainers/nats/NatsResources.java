@@ -0,0 +1,212 @@
+package io.testcontainers.nats;
+
+import com.github.dockerjava.api.model.HostConfig;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * NATS container resource limits applied via create container command and Go runtime environment, for
+ * {@link NatsClusterBuilder} it is applied to each node and can be overridden per node.
+ * <p>
+ * Go runtime does not follow container CPU quota and memory limit, so GOMAXPROCS is derived from CPUs or cpuset and
+ * GOMEMLIMIT from memory limit unless specified explicitly.
+ * <p>
+ * <a href="https://docs.docker.com/engine/containers/resource_constraints/">Docker resource constraints</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsResources {
+
+    private static final double GO_MEMORY_LIMIT_RATIO = 0.9;
+
+    @Nullable
+    private Double cpus;
+    @Nullable
+    private String cpuset;
+    @Nullable
+    private Long memory;
+    @Nullable
+    private Integer goMaxProcs;
+    @Nullable
+    private Long goMemoryLimit;
+
+    /**
+     * @param cpus CPU quota as number of CPUs, e.g. 1.5 (--cpus)
+     * @return self
+     */
+    public NatsResources withCpus(double cpus) {
+        if (cpus <= 0)
+            throw new IllegalArgumentException("CPUs must be positive, but was: " + cpus);
+        this.cpus = cpus;
+        return this;
+    }
+
+    /**
+     * @param cpuset CPUs container is pinned to, e.g. 0-1 or 0,2 (--cpuset-cpus)
+     * @return self
+     */
+    public NatsResources withCpuset(String cpuset) {
+        if (!Objects.requireNonNull(cpuset).matches("\\d+(-\\d+)?(,\\d+(-\\d+)?)*"))
+            throw new IllegalArgumentException("Cpuset must be list of CPUs or ranges like 0-1,3, but was: " + cpuset);
+        this.cpuset = cpuset;
+        return this;
+    }
+
+    /**
+     * @param bytes memory limit, swap is disabled (--memory)
+     * @return self
+     */
+    public NatsResources withMemory(long bytes) {
+        this.memory = requirePositive(bytes, "Memory");
+        return this;
+    }
+
+    /**
+     * @param goMaxProcs number of OS threads executing Go code (GOMAXPROCS)
+     * @return self
+     */
+    public NatsResources withGoMaxProcs(int goMaxProcs) {
+        this.goMaxProcs = (int) requirePositive(goMaxProcs, "GOMAXPROCS");
+        return this;
+    }
+
+    /**
+     * @param bytes Go runtime soft memory limit (GOMEMLIMIT)
+     * @return self
+     */
+    public NatsResources withGoMemoryLimit(long bytes) {
+        this.goMemoryLimit = requirePositive(bytes, "GOMEMLIMIT");
+        return this;
+    }
+
+    @Nullable
+    public Double getCpus() {
+        return cpus;
+    }
+
+    @Nullable
+    public String getCpuset() {
+        return cpuset;
+    }
+
+    @Nullable
+    public Long getMemory() {
+        return memory;
+    }
+
+    /**
+     * @return GOMAXPROCS specified explicitly or derived from CPUs or cpuset, null if not limited
+     */
+    @Nullable
+    public Integer getGoMaxProcs() {
+        if (goMaxProcs != null) {
+            return goMaxProcs;
+        } else if (cpus != null) {
+            return (int) Math.ceil(cpus);
+        } else if (cpuset != null) {
+            return getCpusetSize(cpuset);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @return GOMEMLIMIT specified explicitly or derived as 90% of memory limit, null if not limited
+     */
+    @Nullable
+    public Long getGoMemoryLimit() {
+        if (goMemoryLimit != null) {
+            return goMemoryLimit;
+        } else if (memory != null) {
+            return (long) (memory * GO_MEMORY_LIMIT_RATIO);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param override resources which values take precedence
+     * @return new resources with values of these resources overridden by specified ones
+     */
+    NatsResources merge(@Nullable NatsResources override) {
+        final NatsResources merged = new NatsResources();
+        merged.cpus = cpus;
+        merged.cpuset = cpuset;
+        merged.memory = memory;
+        merged.goMaxProcs = goMaxProcs;
+        merged.goMemoryLimit = goMemoryLimit;
+        if (override == null) {
+            return merged;
+        }
+
+        if (override.cpus != null)
+            merged.cpus = override.cpus;
+        if (override.cpuset != null)
+            merged.cpuset = override.cpuset;
+        if (override.memory != null)
+            merged.memory = override.memory;
+        if (override.goMaxProcs != null)
+            merged.goMaxProcs = override.goMaxProcs;
+        if (override.goMemoryLimit != null)
+            merged.goMemoryLimit = override.goMemoryLimit;
+        return merged;
+    }
+
+    void apply(HostConfig hostConfig) {
+        if (cpus != null) {
+            hostConfig.withNanoCPUs((long) (cpus * 1_000_000_000L));
+        }
+        if (cpuset != null) {
+            hostConfig.withCpusetCpus(cpuset);
+        }
+        if (memory != null) {
+            hostConfig.withMemory(memory);
+            hostConfig.withMemorySwap(memory);
+        }
+    }
+
+    /**
+     * @return Go runtime environment variables
+     */
+    Map<String, String> getEnv() {
+        final Map<String, String> env = new LinkedHashMap<>();
+        final Integer maxProcs = getGoMaxProcs();
+        if (maxProcs != null) {
+            env.put("GOMAXPROCS", String.valueOf(maxProcs));
+        }
+        final Long memoryLimit = getGoMemoryLimit();
+        if (memoryLimit != null) {
+            env.put("GOMEMLIMIT", String.valueOf(memoryLimit));
+        }
+        return env;
+    }
+
+    private static int getCpusetSize(String cpuset) {
+        int size = 0;
+        for (String part : cpuset.split(",")) {
+            final int range = part.indexOf('-');
+            size += (range == -1)
+                    ? 1
+                    : Integer.parseInt(part.substring(range + 1)) - Integer.parseInt(part.substring(0, range)) + 1;
+        }
+        return Math.max(size, 1);
+    }
+
+    private static long requirePositive(long value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be positive, but was: " + value);
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "[cpus=" + cpus
+                + ", cpuset=" + cpuset
+                + ", memory=" + memory
+                + ", goMaxProcs=" + goMaxProcs
+                + ", goMemoryLimit=" + goMemoryLimit + ']';
+    }
+}
@@ -0,0 +1,55 @@
+package io.testcontainers.nats;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.rules.ExternalResource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Network;
+
+/**
+ * Network with stable name that is looked up by name and created only when it does not exist yet, so
+ * reusable containers keep attaching to the same network across JVM runs.
+ * <p>
+ * Network is not registered for cleanup and is never removed on {@link #close()}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class NatsReusableNetwork extends ExternalResource implements Network {
+
+    private final String name;
+    private String id;
+
+    NatsReusableNetwork(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized String getId() {
+        if (id == null) {
+            final DockerClient client = DockerClientFactory.instance().client();
+            id = client.listNetworksCmd()
+                    .withNameFilter(name)
+                    .exec()
+                    .stream()
+                    .filter(network -> name.equals(network.getName()))
+                    .map(com.github.dockerjava.api.model.Network::getId)
+                    .findFirst()
+                    .orElseGet(() -> client.createNetworkCmd()
+                            .withName(name)
+                            .withCheckDuplicate(true)
+                            .exec()
+                            .getId());
+        }
+
+        return id;
+    }
+
+    @Override
+    public void close() {
+        // network is kept for reuse
+    }
+}
@@ -0,0 +1,157 @@
+package io.testcontainers.nats;
+
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.model.Toxic;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import eu.rekawek.toxiproxy.model.toxic.Bandwidth;
+import eu.rekawek.toxiproxy.model.toxic.Latency;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Route between two {@link NatsCluster} nodes that goes through Toxiproxy, allows to add latency, bandwidth
+ * limit and partition to route at runtime, each toxic is applied in both directions.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsClusterBuilder#withRouteProxy()
+ * @since 17.10.2026
+ */
+public final class NatsRouteLink {
+
+    private final String source;
+    private final String target;
+    private final Proxy proxy;
+
+    private final Map<ToxicDirection, Latency> latency = new EnumMap<>(ToxicDirection.class);
+    private final Map<ToxicDirection, Bandwidth> bandwidth = new EnumMap<>(ToxicDirection.class);
+    private volatile boolean partitioned = false;
+
+    NatsRouteLink(String source, String target, Proxy proxy) {
+        this.source = source;
+        this.target = target;
+        this.proxy = proxy;
+    }
+
+    /**
+     * @return alias of node that dials route
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return alias of node that accepts route
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    boolean connects(String alias) {
+        return source.equals(alias) || target.equals(alias);
+    }
+
+    boolean connects(String alias, String otherAlias) {
+        return (source.equals(alias) && target.equals(otherAlias))
+                || (source.equals(otherAlias) && target.equals(alias));
+    }
+
+    public NatsRouteLink withLatency(Duration latency) {
+        return withLatency(latency, Duration.ZERO);
+    }
+
+    /**
+     * @param latency added to each direction of route
+     * @param jitter  random deviation of latency
+     * @return self
+     */
+    public synchronized NatsRouteLink withLatency(Duration latency, Duration jitter) {
+        Objects.requireNonNull(latency);
+        Objects.requireNonNull(jitter);
+        try {
+            for (ToxicDirection direction : ToxicDirection.values()) {
+                final Latency toxic = this.latency.get(direction);
+                if (toxic == null) {
+                    this.latency.put(direction, proxy.toxics()
+                            .latency("latency-" + direction.name().toLowerCase(), direction, latency.toMillis())
+                            .setJitter(jitter.toMillis()));
+                } else {
+                    toxic.setLatency(latency.toMillis()).setJitter(jitter.toMillis());
+                }
+            }
+            return this;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed setting latency for route: " + this, e);
+        }
+    }
+
+    /**
+     * @param kilobytesPerSecond bandwidth limit for each direction of route
+     * @return self
+     */
+    public synchronized NatsRouteLink withBandwidth(long kilobytesPerSecond) {
+        try {
+            for (ToxicDirection direction : ToxicDirection.values()) {
+                final Bandwidth toxic = this.bandwidth.get(direction);
+                if (toxic == null) {
+                    this.bandwidth.put(direction, proxy.toxics()
+                            .bandwidth("bandwidth-" + direction.name().toLowerCase(), direction, kilobytesPerSecond));
+                } else {
+                    toxic.setRate(kilobytesPerSecond);
+                }
+            }
+            return this;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed setting bandwidth for route: " + this, e);
+        }
+    }
+
+    /**
+     * Closes route connections and refuses new ones until {@link #heal()}
+     *
+     * @return self
+     */
+    public synchronized NatsRouteLink partition() {
+        try {
+            proxy.disable();
+            partitioned = true;
+            return this;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed partitioning route: " + this, e);
+        }
+    }
+
+    /**
+     * Removes partition, latency and bandwidth limit from route
+     *
+     * @return self
+     */
+    public synchronized NatsRouteLink heal() {
+        try {
+            for (Toxic toxic : latency.values()) {
+                toxic.remove();
+            }
+            for (Toxic toxic : bandwidth.values()) {
+                toxic.remove();
+            }
+            latency.clear();
+            bandwidth.clear();
+            proxy.enable();
+            partitioned = false;
+            return this;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed healing route: " + this, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[source=" + source + ", target=" + target + ", proxy=" + proxy.getName() + ']';
+    }
+}
@@ -0,0 +1,101 @@
+package io.testcontainers.nats;
+
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Toxiproxy container that carries every route of {@link NatsCluster}, each pair of nodes gets its own proxy so
+ * links can be degraded independently.
+ * <p>
+ * Lower node in pair dials route through its proxy, so cluster is full mesh of explicit routes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class NatsRouteProxy {
+
+    private static final int PORT_START = 20000;
+
+    /**
+     * Nodes gossip advertised route address to each other to create implicit routes, such routes would bypass
+     * proxy, so nodes advertise address that can not be connected
+     */
+    static final String ADVERTISE_UNREACHABLE = "127.0.0.1:1";
+
+    private static final class Route {
+
+        private final String source;
+        private final String target;
+        private final int port;
+
+        private Route(String source, String target, int port) {
+            this.source = source;
+            this.target = target;
+            this.port = port;
+        }
+    }
+
+    private final ToxiproxyContainer container;
+    private final String alias;
+    private final List<Route> routes;
+
+    private volatile List<NatsRouteLink> links = List.of();
+
+    NatsRouteProxy(DockerImageName image, String clusterId, List<String> aliases, Network network) {
+        this.alias = "nats-proxy-" + clusterId;
+        this.container = new ToxiproxyContainer(image)
+                .withNetwork(network)
+                .withNetworkAliases(alias);
+
+        final List<Route> routes = new ArrayList<>();
+        for (int i = 0; i < aliases.size(); i++) {
+            for (int j = i + 1; j < aliases.size(); j++) {
+                routes.add(new Route(aliases.get(i), aliases.get(j), PORT_START + routes.size()));
+            }
+        }
+        this.routes = List.copyOf(routes);
+    }
+
+    /**
+     * @param alias of node
+     * @return proxy addresses that node dials to reach other nodes
+     */
+    List<String> getRoutes(String alias) {
+        return routes.stream()
+                .filter(route -> route.source.equals(alias))
+                .map(route -> this.alias + ":" + route.port)
+                .collect(Collectors.toList());
+    }
+
+    List<NatsRouteLink> getLinks() {
+        return links;
+    }
+
+    void start() {
+        container.start();
+        final ToxiproxyClient client = new ToxiproxyClient(container.getHost(), container.getControlPort());
+        final List<NatsRouteLink> links = new ArrayList<>(routes.size());
+        for (Route route : routes) {
+            try {
+                final String name = route.source + "_" + route.target;
+                final var proxy = client.createProxy(name, "0.0.0.0:" + route.port,
+                        route.target + ":" + NatsContainer.PORT_ROUTING);
+                links.add(new NatsRouteLink(route.source, route.target, proxy));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed creating route proxy for: " + route.source + " -> "
+                        + route.target, e);
+            }
+        }
+        this.links = List.copyOf(links);
+    }
+
+    void stop() {
+        container.stop();
+    }
+}
@@ -0,0 +1,31 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+
+/**
+ * Waits until NATS server reports healthy state via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#health">/healthz</a> and has
+ * routes to expected number of other cluster servers via <a href=
+ * "https://docs.nats.io/running-a-nats-service/nats_admin/monitoring#route-information">/routez</a>.
+ * <p>
+ * Routes are counted by distinct remote servers, as single server can have multiple route connections
+ * due to route pooling.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsRoutesWaitStrategy extends NatsMonitoringWaitStrategy {
+
+    /**
+     * @param routes number of other cluster servers node should have routes to
+     */
+    public NatsRoutesWaitStrategy(int routes) {
+        super("routes", routes, monitoring -> monitoring.routez().getRemoteServers());
+    }
+
+    @Override
+    public NatsRoutesWaitStrategy withPollInterval(Duration pollInterval) {
+        super.withPollInterval(pollInterval);
+        return this;
+    }
+}
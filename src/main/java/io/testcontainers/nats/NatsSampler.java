@@ -0,0 +1,443 @@
+package io.testcontainers.nats;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Background sampler that polls /varz and /connz of every server of any {@link NatsStartable} at fixed interval,
+ * for {@link NatsCluster} each running node is sampled separately.
+ * <p>
+ * Samples are stored in fixed size ring buffer of primitive arrays per server, so only latest
+ * {@link #withCapacity(int)} samples are kept. Samples are exported to CSV or JSON on {@link #stop()} if export
+ * file is specified, so server side curves can be compared with client side latencies.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsSampler implements AutoCloseable {
+
+    public enum Metric {
+
+        /**
+         * Resident memory in bytes
+         */
+        MEM,
+        CONNECTIONS,
+        SLOW_CONSUMERS,
+        IN_MSGS,
+        OUT_MSGS,
+        IN_BYTES,
+        OUT_BYTES,
+        /**
+         * Sum of pending bytes of all client connections from /connz, paged through when server has more
+         * connections than fit in one page
+         */
+        PENDING_BYTES,
+        SUBSCRIPTIONS;
+
+        private String getColumn() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final class Sample {
+
+        private final Instant timestamp;
+        private final double cpu;
+        private final long[] values;
+
+        private Sample(Instant timestamp, double cpu, long[] values) {
+            this.timestamp = timestamp;
+            this.cpu = cpu;
+            this.values = values;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return CPU usage in percent, can exceed 100 for multiple cores
+         */
+        public double getCpu() {
+            return cpu;
+        }
+
+        public long get(Metric metric) {
+            return values[metric.ordinal()];
+        }
+
+        @Override
+        public String toString() {
+            return "[timestamp=" + timestamp + ", cpu=" + cpu + ", mem=" + get(Metric.MEM)
+                    + ", connections=" + get(Metric.CONNECTIONS)
+                    + ", pendingBytes=" + get(Metric.PENDING_BYTES) + ']';
+        }
+    }
+
+    private static final class Series {
+
+        private static final int METRICS = Metric.values().length;
+
+        private final int capacity;
+        private final long[] timestamps;
+        private final double[] cpu;
+        private final long[] values;
+        private long count = 0;
+
+        private Series(int capacity) {
+            this.capacity = capacity;
+            this.timestamps = new long[capacity];
+            this.cpu = new double[capacity];
+            this.values = new long[capacity * METRICS];
+        }
+
+        private synchronized void add(long timestamp, NatsMonitoring.Varz varz, long pendingBytes) {
+            final int index = (int) (count % capacity);
+            final int offset = index * METRICS;
+            timestamps[index] = timestamp;
+            cpu[index] = varz.getCpu();
+            values[offset + Metric.MEM.ordinal()] = varz.getMem();
+            values[offset + Metric.CONNECTIONS.ordinal()] = varz.getConnections();
+            values[offset + Metric.SLOW_CONSUMERS.ordinal()] = varz.getSlowConsumers();
+            values[offset + Metric.IN_MSGS.ordinal()] = varz.getInMsgs();
+            values[offset + Metric.OUT_MSGS.ordinal()] = varz.getOutMsgs();
+            values[offset + Metric.IN_BYTES.ordinal()] = varz.getInBytes();
+            values[offset + Metric.OUT_BYTES.ordinal()] = varz.getOutBytes();
+            values[offset + Metric.PENDING_BYTES.ordinal()] = pendingBytes;
+            values[offset + Metric.SUBSCRIPTIONS.ordinal()] = varz.getSubscriptions();
+            count++;
+        }
+
+        private synchronized List<Sample> getSamples() {
+            final int size = (int) Math.min(count, capacity);
+            final List<Sample> samples = new ArrayList<>(size);
+            for (long i = count - size; i < count; i++) {
+                final int index = (int) (i % capacity);
+                final long[] sample = new long[METRICS];
+                System.arraycopy(values, index * METRICS, sample, 0, METRICS);
+                samples.add(new Sample(Instant.ofEpochMilli(timestamps[index]), cpu[index], sample));
+            }
+            return samples;
+        }
+
+        private synchronized long getDropped() {
+            return Math.max(0, count - capacity);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsSampler.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicLong THREADS = new AtomicLong();
+    private static final int CONNZ_PAGE_LIMIT = 1024;
+
+    private final NatsStartable startable;
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private final AtomicLong errors = new AtomicLong();
+
+    private Duration interval = Duration.ofSeconds(1);
+    private int capacity = 3600;
+    @Nullable
+    private Path export;
+    @Nullable
+    private ScheduledExecutorService scheduler;
+    private boolean stopped = false;
+
+    private NatsSampler(NatsStartable startable) {
+        this.startable = startable;
+    }
+
+    public static NatsSampler of(NatsStartable startable) {
+        return new NatsSampler(Objects.requireNonNull(startable));
+    }
+
+    /**
+     * @param interval between samples
+     * @return self
+     */
+    public NatsSampler withInterval(Duration interval) {
+        if (interval.isNegative() || interval.isZero())
+            throw new IllegalArgumentException("Interval must be positive, but was: " + interval);
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * @param capacity maximum number of latest samples kept per server
+     * @return self
+     */
+    public NatsSampler withCapacity(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity can not be less 1");
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * @param file samples are exported to on {@link #stop()}, JSON if file name ends with <b>.json</b> and CSV
+     *                 otherwise
+     * @return self
+     */
+    public NatsSampler withExport(Path file) {
+        this.export = Objects.requireNonNull(file);
+        return this;
+    }
+
+    /**
+     * Starts sampling in background daemon thread
+     *
+     * @return self
+     */
+    public synchronized NatsSampler start() {
+        if (scheduler != null)
+            throw new IllegalStateException("Sampler is already started");
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "nats-sampler-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    /**
+     * Stops sampling and exports samples if export file is specified, can be called multiple times
+     */
+    public synchronized void stop() {
+        if (scheduler == null || stopped) {
+            return;
+        }
+
+        stopped = true;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(interval.multipliedBy(2).toMillis() + 5000, TimeUnit.MILLISECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        if (export != null) {
+            if (export.getFileName().toString().endsWith(".json")) {
+                exportJson(export);
+            } else {
+                exportCsv(export);
+            }
+            logger.info("NATS samples exported to: {}", export);
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void sample() {
+        // exception in scheduled task cancels further sampling, so every failure is only counted
+        try {
+            final Map<String, NatsMonitoring> targets = getTargets();
+            final Map<String, CompletableFuture<NatsMonitoring.Varz>> varz = new LinkedHashMap<>();
+            final Map<String, CompletableFuture<Long>> pendingBytes = new LinkedHashMap<>();
+            targets.forEach((server, monitoring) -> {
+                varz.put(server, monitoring.varzAsync());
+                pendingBytes.put(server, getPendingBytesAsync(monitoring, 0, 0));
+            });
+
+            final long timestamp = System.currentTimeMillis();
+            final long timeout = Math.max(interval.toMillis(), 1000);
+            for (String server : targets.keySet()) {
+                try {
+                    final NatsMonitoring.Varz serverVarz = varz.get(server).get(timeout, TimeUnit.MILLISECONDS);
+                    final long serverPendingBytes = pendingBytes.get(server).get(timeout, TimeUnit.MILLISECONDS);
+                    series.computeIfAbsent(server, s -> new Series(capacity))
+                            .add(timestamp, serverVarz, serverPendingBytes);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                    logger.debug("Failed sampling NATS server: {}", server, e);
+                }
+            }
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            logger.debug("Failed sampling NATS servers", e);
+        }
+    }
+
+    /**
+     * Server returns limited number of connections per /connz request, so connections are paged through
+     */
+    private static CompletableFuture<Long> getPendingBytesAsync(NatsMonitoring monitoring, int offset, long pending) {
+        return monitoring.connzAsync(offset, CONNZ_PAGE_LIMIT).thenCompose(connz -> {
+            final int next = offset + connz.getConnections().size();
+            final long sum = pending + connz.getPendingBytes();
+            return (connz.getConnections().isEmpty() || next >= connz.getTotal())
+                    ? CompletableFuture.completedFuture(sum)
+                    : getPendingBytesAsync(monitoring, next, sum);
+        });
+    }
+
+    private Map<String, NatsMonitoring> getTargets() {
+        final Map<String, NatsMonitoring> targets = new LinkedHashMap<>();
+        addTargets(targets, startable);
+        return targets;
+    }
+
+    private static void addTargets(Map<String, NatsMonitoring> targets, NatsStartable startable) {
+        if (startable instanceof NatsCluster) {
+            for (NatsClusterContainer node : ((NatsCluster) startable).getRunningNodes()) {
+                targets.put(node.getAlias(), node.getMonitoring());
+            }
+        } else if (startable instanceof NatsSuperCluster) {
+            for (NatsCluster cluster : ((NatsSuperCluster) startable).getClusters().values()) {
+                addTargets(targets, cluster);
+            }
+        } else if (startable instanceof NatsLeafNodes) {
+            final NatsLeafNodes leafNodes = (NatsLeafNodes) startable;
+            addTargets(targets, leafNodes.getHub());
+            for (NatsContainer leaf : leafNodes.getLeaves()) {
+                addTargets(targets, leaf);
+            }
+        } else if (startable instanceof NatsClusterContainer) {
+            targets.put(((NatsClusterContainer) startable).getAlias(), startable.getMonitoring());
+        } else if (startable instanceof NatsContainer) {
+            targets.put(((NatsContainer) startable).getServerName(), startable.getMonitoring());
+        } else {
+            targets.put("nats", startable.getMonitoring());
+        }
+    }
+
+    /**
+     * @return latest samples per server in sampling order
+     */
+    public Map<String, List<Sample>> getSamples() {
+        final Map<String, List<Sample>> samples = new LinkedHashMap<>();
+        new ArrayList<>(series.keySet()).stream()
+                .sorted()
+                .forEach(server -> samples.put(server, series.get(server).getSamples()));
+        return Collections.unmodifiableMap(samples);
+    }
+
+    /**
+     * @param server to get samples for
+     * @return latest samples for server in sampling order, empty if server was not sampled
+     */
+    public List<Sample> getSamples(String server) {
+        final Series serverSeries = series.get(server);
+        return (serverSeries == null)
+                ? List.of()
+                : serverSeries.getSamples();
+    }
+
+    /**
+     * @return number of samples overwritten in ring buffer across all servers
+     */
+    public long getDropped() {
+        return series.values().stream()
+                .mapToLong(Series::getDropped)
+                .sum();
+    }
+
+    /**
+     * @return number of failed monitoring requests
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * @param file to write samples to as CSV with header and one row per server sample
+     */
+    public void exportCsv(Path file) {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("server,timestamp,cpu");
+            for (Metric metric : Metric.values()) {
+                writer.write(',');
+                writer.write(metric.getColumn());
+            }
+            writer.write('\n');
+
+            for (Map.Entry<String, List<Sample>> entry : getSamples().entrySet()) {
+                for (Sample sample : entry.getValue()) {
+                    writer.write(entry.getKey());
+                    writer.write(',');
+                    writer.write(sample.getTimestamp().toString());
+                    writer.write(',');
+                    writer.write(String.valueOf(sample.getCpu()));
+                    for (Metric metric : Metric.values()) {
+                        writer.write(',');
+                        writer.write(String.valueOf(sample.get(metric)));
+                    }
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to export NATS samples to: " + file, e);
+        }
+    }
+
+    /**
+     * @param file to write samples to as JSON object with array of samples per server
+     */
+    public void exportJson(Path file) {
+        final ObjectNode root = MAPPER.createObjectNode();
+        root.put("interval", interval.toString());
+        root.put("dropped", getDropped());
+        root.put("errors", getErrors());
+        final ObjectNode servers = root.putObject("servers");
+        for (Map.Entry<String, List<Sample>> entry : getSamples().entrySet()) {
+            final ArrayNode array = servers.putArray(entry.getKey());
+            for (Sample sample : entry.getValue()) {
+                final ObjectNode node = array.addObject();
+                node.put("timestamp", sample.getTimestamp().toString());
+                node.put("cpu", sample.getCpu());
+                for (Metric metric : Metric.values()) {
+                    node.put(metric.getColumn(), sample.get(metric));
+                }
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(writer, root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to export NATS samples to: " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[interval=" + interval
+                + ", capacity=" + capacity
+                + ", servers=" + series.keySet()
+                + ", dropped=" + getDropped()
+                + ", errors=" + getErrors() + ']';
+    }
+}
@@ -0,0 +1,71 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+
+/**
+ * Result of {@link NatsSeeder} run, duration is measured from first publish until last ack is received.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsSeedReport {
+
+    private final Duration duration;
+    private final long records;
+    private final long bytes;
+    private final int connections;
+
+    NatsSeedReport(Duration duration, long records, long bytes, int connections) {
+        this.duration = duration;
+        this.records = records;
+        this.bytes = bytes;
+        this.connections = connections;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return number of records published and acknowledged
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return total payload bytes of published records
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public double getRecordsPerSecond() {
+        return perSecond(records);
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long value) {
+        final long nanos = duration.toNanos();
+        return (nanos == 0)
+                ? 0
+                : value * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "[duration=" + duration
+                + ", records=" + records
+                + ", bytes=" + bytes
+                + ", connections=" + connections
+                + ", recordsPerSecond=" + Math.round(getRecordsPerSecond())
+                + ", bytesPerSecond=" + Math.round(getBytesPerSecond()) + ']';
+    }
+}
@@ -0,0 +1,406 @@
+package io.testcontainers.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.api.KeyValueConfiguration;
+import io.nats.client.api.StreamConfiguration;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk seeder of JetStream stream or key value bucket from file against any {@link NatsStartable}, for
+ * {@link NatsCluster} records are published round-robin over connections to all nodes.
+ * <p>
+ * Records are published asynchronously with bounded number of outstanding acks per connection, so seeding is
+ * limited by server throughput instead of round trip per record. Supported formats:
+ * <ul>
+ * <li>NDJSON, each line is object with <b>subject</b> or <b>key</b> and <b>data</b> or <b>value</b>, textual
+ * data is published as is and other values as JSON</li>
+ * <li>Binary, each record is big endian int length and UTF-8 subject or key followed by int length and payload,
+ * file is read through memory mapping</li>
+ * </ul>
+ * Requires <a href="https://github.com/nats-io/nats.java">jnats</a> on classpath.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsSeeder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final class Record {
+
+        private final String subject;
+        private final byte[] data;
+
+        private Record(String subject, byte[] data) {
+            this.subject = subject;
+            this.data = data;
+        }
+    }
+
+    private interface Records extends Iterator<Record>, Closeable {}
+
+    private final NatsStartable startable;
+
+    @Nullable
+    private Path ndjson;
+    @Nullable
+    private Path binary;
+    @Nullable
+    private StreamConfiguration stream;
+    @Nullable
+    private KeyValueConfiguration keyValue;
+    @Nullable
+    private String subject;
+    private int connections = 0;
+    private int window = 1024;
+    private Duration timeout = Duration.ofMinutes(10);
+
+    private NatsSeeder(NatsStartable startable) {
+        this.startable = startable;
+    }
+
+    public static NatsSeeder of(NatsStartable startable) {
+        return new NatsSeeder(Objects.requireNonNull(startable));
+    }
+
+    /**
+     * @param file with one JSON record per line
+     * @return self
+     */
+    public NatsSeeder withNdjson(Path file) {
+        this.ndjson = Objects.requireNonNull(file);
+        this.binary = null;
+        return this;
+    }
+
+    /**
+     * @param file with length prefixed binary records
+     * @return self
+     */
+    public NatsSeeder withBinary(Path file) {
+        this.binary = Objects.requireNonNull(file);
+        this.ndjson = null;
+        return this;
+    }
+
+    /**
+     * @param stream to seed, created if it does not exist, record subjects must match stream subjects
+     * @return self
+     */
+    public NatsSeeder withStream(StreamConfiguration stream) {
+        this.stream = Objects.requireNonNull(stream);
+        this.keyValue = null;
+        return this;
+    }
+
+    /**
+     * @param keyValue bucket to seed, created if it does not exist, record keys are bucket keys
+     * @return self
+     */
+    public NatsSeeder withKeyValue(KeyValueConfiguration keyValue) {
+        this.keyValue = Objects.requireNonNull(keyValue);
+        this.stream = null;
+        return this;
+    }
+
+    /**
+     * @param subject used for stream records without subject
+     * @return self
+     */
+    public NatsSeeder withSubject(String subject) {
+        this.subject = Objects.requireNonNull(subject);
+        return this;
+    }
+
+    /**
+     * @param connections number of connections records are spread over, one per server by default
+     * @return self
+     */
+    public NatsSeeder withConnections(int connections) {
+        this.connections = connections;
+        return this;
+    }
+
+    /**
+     * @param window maximum number of outstanding publish acks per connection
+     * @return self
+     */
+    public NatsSeeder withWindow(int window) {
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * @param timeout for whole seeding run
+     * @return self
+     */
+    public NatsSeeder withTimeout(Duration timeout) {
+        this.timeout = Objects.requireNonNull(timeout);
+        return this;
+    }
+
+    public NatsSeedReport run() {
+        if (ndjson == null && binary == null)
+            throw new IllegalArgumentException("Seed file is not specified, see withNdjson() or withBinary()");
+        if (stream == null && keyValue == null)
+            throw new IllegalArgumentException("Seed target is not specified, see withStream() or withKeyValue()");
+        if (window < 1)
+            throw new IllegalArgumentException("Window can not be less 1");
+        if (connections < 0)
+            throw new IllegalArgumentException("Connections can not be negative");
+
+        final List<String> servers = NatsClients.getServers(startable);
+        final int connectionCount = (connections == 0)
+                ? servers.size()
+                : connections;
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        final List<Connection> connectionList = new ArrayList<>(connectionCount);
+        final List<Semaphore> windows = new ArrayList<>(connectionCount);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (Records records = (ndjson != null) ? ndjsonRecords(ndjson) : binaryRecords(binary)) {
+            for (int i = 0; i < connectionCount; i++) {
+                final String server = servers.get(i % servers.size());
+                connectionList.add(NatsClients.connect(NatsClients.getOptions(startable, server).build()));
+                windows.add(new Semaphore(window));
+            }
+
+            final String prefix = createTarget(connectionList.get(0));
+            final List<JetStream> jetStreams = new ArrayList<>(connectionCount);
+            for (Connection connection : connectionList) {
+                jetStreams.add(connection.jetStream());
+            }
+
+            final long started = System.nanoTime();
+            long published = 0;
+            long bytes = 0;
+            while (records.hasNext()) {
+                final Record record = records.next();
+                final String recordSubject = getSubject(prefix, record);
+                final int index = (int) (published % connectionCount);
+                final Semaphore semaphore = windows.get(index);
+                if (!semaphore.tryAcquire(remaining(deadline).toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("Publish acks are not received in time");
+                }
+
+                final Throwable failed = failure.get();
+                if (failed != null) {
+                    throw new IllegalStateException("Publish failed for seeded record", failed);
+                }
+
+                jetStreams.get(index).publishAsync(recordSubject, record.data)
+                        .whenComplete((ack, e) -> {
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                            semaphore.release();
+                        });
+                published++;
+                bytes += record.data.length;
+            }
+
+            // all outstanding acks are received when whole window is available again
+            for (Semaphore semaphore : windows) {
+                if (!semaphore.tryAcquire(window, remaining(deadline).toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("Publish acks are not received in time");
+                }
+            }
+
+            final Throwable failed = failure.get();
+            if (failed != null) {
+                throw new IllegalStateException("Publish failed for seeded record", failed);
+            }
+
+            return new NatsSeedReport(Duration.ofNanos(System.nanoTime() - started), published, bytes,
+                    connectionCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Seeding timed out after: " + timeout, e);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Seeding failed", e);
+        } finally {
+            for (Connection connection : connectionList) {
+                try {
+                    connection.close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return subject prefix for key value bucket or null for stream
+     */
+    @Nullable
+    private String createTarget(Connection connection) throws IOException, JetStreamApiException {
+        if (keyValue != null) {
+            connection.keyValueManagement().create(keyValue);
+            return "$KV." + keyValue.getBucketName() + ".";
+        }
+
+        connection.jetStreamManagement().addStream(stream);
+        return null;
+    }
+
+    private String getSubject(@Nullable String keyValuePrefix, Record record) {
+        if (keyValuePrefix != null) {
+            if (record.subject.isEmpty())
+                throw new IllegalArgumentException("Key value record has no key");
+            return keyValuePrefix + record.subject;
+        }
+
+        if (!record.subject.isEmpty()) {
+            return record.subject;
+        } else if (subject != null) {
+            return subject;
+        } else {
+            throw new IllegalArgumentException("Stream record has no subject and default subject is not specified");
+        }
+    }
+
+    private static Duration remaining(long deadline) throws TimeoutException {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException("Seeding deadline exceeded");
+        }
+        return Duration.ofNanos(remaining);
+    }
+
+    private static Records ndjsonRecords(Path file) throws IOException {
+        final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return new Records() {
+
+            private String line = nextLine();
+
+            private String nextLine() throws IOException {
+                String next;
+                do {
+                    next = reader.readLine();
+                } while (next != null && next.isBlank());
+                return next;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return line != null;
+            }
+
+            @Override
+            public Record next() {
+                if (line == null)
+                    throw new NoSuchElementException();
+
+                try {
+                    final JsonNode node = MAPPER.readTree(line);
+                    final JsonNode subject = node.has("key") ? node.get("key") : node.path("subject");
+                    final JsonNode data = node.has("value") ? node.get("value") : node.path("data");
+                    final byte[] bytes = (data.isTextual())
+                            ? data.asText().getBytes(StandardCharsets.UTF_8)
+                            : (data.isMissingNode()) ? new byte[0] : MAPPER.writeValueAsBytes(data);
+
+                    line = nextLine();
+                    return new Record(subject.asText(""), bytes);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read NDJSON record from: " + file, e);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    private static Records binaryRecords(Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        final long size = channel.size();
+        return new Records() {
+
+            // mapped in regions, so files larger than 2GB can be read
+            private static final long REGION = 64L * 1024 * 1024;
+
+            private MappedByteBuffer buffer;
+            private long bufferStart = 0;
+            private long position = 0;
+
+            private void ensure(int bytes) throws IOException {
+                if (position + bytes > size)
+                    throw new IllegalStateException(
+                            "Truncated binary record at position " + position + " in: " + file);
+
+                if (buffer == null || position + bytes > bufferStart + buffer.limit()) {
+                    bufferStart = position;
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(size - position, Math.max(REGION, bytes)));
+                }
+                buffer.position((int) (position - bufferStart));
+                position += bytes;
+            }
+
+            private byte[] readBytes() throws IOException {
+                ensure(Integer.BYTES);
+                final int length = buffer.getInt();
+                if (length < 0)
+                    throw new IllegalStateException("Negative binary record length at position " + position
+                            + " in: " + file);
+
+                ensure(length);
+                final byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                return bytes;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public Record next() {
+                if (position >= size)
+                    throw new NoSuchElementException();
+
+                try {
+                    final String subject = new String(readBytes(), StandardCharsets.UTF_8);
+                    return new Record(subject, readBytes());
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read binary record from: " + file, e);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+}
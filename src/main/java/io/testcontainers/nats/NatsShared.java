@@ -0,0 +1,57 @@
+package io.testcontainers.nats;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Starts one {@link NatsCluster} or {@link NatsContainer} per configuration for whole test run, so test classes
+ * with same configuration share servers instead of starting their own.
+ * <p>
+ * Test and lifecycle methods can declare parameters of type {@link NatsStartable}, {@link NatsCluster} (if
+ * {@link #nodes()} is greater than 1) or {@link NatsContainer} (if {@link #nodes()} is 1) to get shared servers and
+ * {@link NatsTestScope} to get unique subject prefix and exclusive account, so tests can run concurrently.
+ * <p>
+ * Requires <a href="https://junit.org/junit5/">JUnit 5</a> on classpath.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsSharedExtension
+ * @since 17.10.2026
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(NatsSharedExtension.class)
+public @interface NatsShared {
+
+    /**
+     * @return image of servers
+     */
+    String image() default "nats:2.11-alpine";
+
+    /**
+     * @return number of cluster nodes with leader included, single container is started if 1
+     */
+    int nodes() default 3;
+
+    /**
+     * @return true if JetStream is enabled with tmpfs storage for servers and each account
+     */
+    boolean jetStream() default false;
+
+    /**
+     * @return number of accounts leased to {@link NatsTestScope}, maximum number of tests running concurrently
+     */
+    int accounts() default 16;
+
+    /**
+     * @return number of last log lines kept per server instead of streaming each line to SLF4J, buffered lines are
+     *             logged when test fails, 0 disables log buffer
+     */
+    int logBuffer() default 0;
+}
@@ -0,0 +1,216 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.jetbrains.annotations.Nullable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * JUnit 5 extension behind {@link NatsShared}, servers are stored in root extension context so they are started
+ * once per configuration and stopped when whole test run completes.
+ * <p>
+ * Accounts are rendered into server configuration on start, so leasing account to {@link NatsTestScope} does not
+ * reload configuration on any server.
+ * <p>
+ * When test fails, buffered logs of shared servers are logged if {@link NatsShared#logBuffer()} is enabled.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsShared
+ * @since 17.10.2026
+ */
+public class NatsSharedExtension implements BeforeAllCallback, ParameterResolver, TestWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsSharedExtension.class);
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+            .create(NatsSharedExtension.class);
+    private static final String SHARED_ACCOUNT = "shared";
+    private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(5);
+    private static final AtomicLong SCOPES = new AtomicLong();
+
+    private static final class Shared implements ExtensionContext.Store.CloseableResource {
+
+        private final NatsShared configuration;
+        private final NatsStartable startable;
+        private final BlockingQueue<NatsAccounts.User> accounts;
+
+        private Shared(NatsShared configuration) {
+            if (configuration.nodes() < 1)
+                throw new IllegalArgumentException("Nodes can not be less 1");
+            if (configuration.accounts() < 1)
+                throw new IllegalArgumentException("Accounts can not be less 1");
+            if (configuration.logBuffer() < 0)
+                throw new IllegalArgumentException("Log buffer lines can not be negative");
+
+            final NatsAccounts natsAccounts = new NatsAccounts()
+                    .withUsers(SHARED_ACCOUNT, 1)
+                    .withTenants("test", configuration.accounts(), 1);
+            natsAccounts.withNoAuthUser(natsAccounts.getAccount(SHARED_ACCOUNT).getUser().getUsername());
+            if (configuration.jetStream()) {
+                natsAccounts.withJetStream();
+            }
+
+            final List<NatsAccounts.User> users = natsAccounts.getAccounts().stream()
+                    .filter(account -> !account.getName().equals(SHARED_ACCOUNT))
+                    .map(NatsAccounts.Account::getUser)
+                    .collect(Collectors.toList());
+            final NatsConfig config = new NatsConfig().withAccounts(natsAccounts);
+
+            this.configuration = configuration;
+            this.accounts = new ArrayBlockingQueue<>(users.size(), false, users);
+            if (configuration.nodes() == 1) {
+                final NatsContainer container = new NatsContainer(configuration.image()).withConfig(config);
+                if (configuration.jetStream()) {
+                    container.withJetStream(NatsJetStream.tmpfs());
+                }
+                if (configuration.logBuffer() > 0) {
+                    container.withLogBuffer(configuration.logBuffer());
+                }
+                this.startable = container;
+            } else {
+                final NatsClusterBuilder builder = NatsCluster.builder(configuration.image())
+                        .withNodes(configuration.nodes() - 1)
+                        .withConfig(config);
+                if (configuration.jetStream()) {
+                    builder.withJetStream(NatsJetStream.tmpfs());
+                }
+                if (configuration.logBuffer() > 0) {
+                    builder.withLogBuffer(configuration.logBuffer());
+                }
+                this.startable = builder.build();
+            }
+
+            logger.info("Starting shared NATS servers for configuration: {}", getKey(configuration));
+            ((Startable) startable).start();
+        }
+
+        private NatsAccounts.User lease() {
+            try {
+                final NatsAccounts.User account = accounts.poll(LEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (account == null)
+                    throw new IllegalStateException("No account released in " + LEASE_TIMEOUT + " for configuration "
+                            + getKey(configuration) + ", increase NatsShared#accounts() or reduce test parallelism");
+                return account;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for account lease", e);
+            }
+        }
+
+        private void dumpLogs() {
+            if (startable instanceof NatsCluster) {
+                ((NatsCluster) startable).dumpLogs();
+            } else {
+                ((NatsContainer) startable).dumpLogs();
+            }
+        }
+
+        @Override
+        public void close() {
+            logger.info("Stopping shared NATS servers for configuration: {}", getKey(configuration));
+            ((Startable) startable).stop();
+        }
+    }
+
+    private static final class Lease implements ExtensionContext.Store.CloseableResource {
+
+        private final Shared shared;
+        private final NatsAccounts.User account;
+        private final NatsTestScope scope;
+
+        private Lease(Shared shared) {
+            this.shared = shared;
+            this.account = shared.lease();
+            this.scope = new NatsTestScope(shared.startable, "t" + SCOPES.incrementAndGet(), account.getAccount(),
+                    account.getUsername(), account.getPassword());
+        }
+
+        @Override
+        public void close() {
+            shared.accounts.add(account);
+        }
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // servers are started before first test, so startup is not attributed to any test
+        getShared(context);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        final Class<?> type = parameterContext.getParameter().getType();
+        if (type == NatsTestScope.class || type == NatsStartable.class) {
+            return true;
+        }
+
+        final int nodes = getConfiguration(extensionContext).nodes();
+        return (type == NatsCluster.class && nodes > 1) || (type == NatsContainer.class && nodes == 1);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        final Shared shared = getShared(extensionContext);
+        if (parameterContext.getParameter().getType() == NatsTestScope.class) {
+            // same scope for test method and its before and after each methods, account is released with context
+            return extensionContext.getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(Lease.class, k -> new Lease(shared), Lease.class).scope;
+        }
+
+        return shared.startable;
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, @Nullable Throwable cause) {
+        final Shared shared = context.getRoot().getStore(NAMESPACE)
+                .get(getKey(getConfiguration(context)), Shared.class);
+        if (shared != null) {
+            logger.info("Test {} failed, logging buffered logs of shared NATS servers", context.getDisplayName());
+            shared.dumpLogs();
+        }
+    }
+
+    private static Shared getShared(ExtensionContext context) {
+        final NatsShared configuration = getConfiguration(context);
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(getKey(configuration), k -> new Shared(configuration), Shared.class);
+    }
+
+    private static NatsShared getConfiguration(ExtensionContext context) {
+        Optional<ExtensionContext> current = Optional.of(context);
+        while (current.isPresent()) {
+            final Optional<NatsShared> configuration = current.get().getTestClass()
+                    .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, NatsShared.class));
+            if (configuration.isPresent()) {
+                return configuration.get();
+            }
+            current = current.get().getParent();
+        }
+
+        throw new ParameterResolutionException(
+                "Test class is not annotated with @" + NatsShared.class.getSimpleName());
+    }
+
+    private static String getKey(NatsShared configuration) {
+        return "image=" + configuration.image()
+                + ", nodes=" + configuration.nodes()
+                + ", jetStream=" + configuration.jetStream()
+                + ", accounts=" + configuration.accounts()
+                + ", logBuffer=" + configuration.logBuffer();
+    }
+}
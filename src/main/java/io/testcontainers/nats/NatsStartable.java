@@ -23,9 +23,24 @@ public interface NatsStartable {
 
     URI getMonitoringURI();
 
+    /**
+     * @return typed client for server monitoring endpoints at {@link #getMonitoringURI()} host and port
+     */
+    default NatsMonitoring getMonitoring() {
+        return NatsMonitoring.of(getMonitoringURI());
+    }
+
     int getPort();
 
     int getPortRouting();
 
     int getPortMonitoring();
+
+    /**
+     * @return TLS that clients must use or null if servers accept plain connections
+     */
+    @Nullable
+    default NatsTls getTls() {
+        return null;
+    }
 }
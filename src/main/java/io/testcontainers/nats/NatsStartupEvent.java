@@ -0,0 +1,45 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted for each container startup phase, recorded when flight recording is enabled.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsStartupReport
+ * @since 17.10.2026
+ */
+@Name("io.testcontainers.nats.StartupPhase")
+@Label("NATS Container Startup Phase")
+@Category({ "Testcontainers", "NATS" })
+@Description("Duration of NATS container startup phase")
+@StackTrace(false)
+class NatsStartupEvent extends Event {
+
+    @Label("Container")
+    String container;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Phase Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long phaseDuration;
+
+    static void emit(String container, NatsStartupReport.Phase phase, Duration duration) {
+        final NatsStartupEvent event = new NatsStartupEvent();
+        if (event.isEnabled()) {
+            event.container = container;
+            event.phase = phase.name();
+            event.phaseDuration = duration.toNanos();
+            event.commit();
+        }
+    }
+}
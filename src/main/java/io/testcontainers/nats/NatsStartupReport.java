@@ -0,0 +1,89 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Container startup time split by lifecycle phases, measured on each container start.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsContainer#getStartupReport()
+ * @since 17.10.2026
+ */
+public final class NatsStartupReport {
+
+    public enum Phase {
+
+        /**
+         * Server configuration and command are rendered
+         */
+        CONFIGURE,
+        /**
+         * Image is resolved and pulled if it is not present locally
+         */
+        IMAGE,
+        /**
+         * Container create request and container inspection
+         */
+        CREATE,
+        /**
+         * Files are copied into container, networks are attached and process is started, measured by docker daemon
+         */
+        START,
+        /**
+         * Server process boots until wait strategy is satisfied
+         */
+        READY
+    }
+
+    private final Map<Phase, Duration> phases;
+    private final boolean reused;
+
+    NatsStartupReport(Map<Phase, Duration> phases, boolean reused) {
+        this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+        this.reused = reused;
+    }
+
+    /**
+     * @return phase durations in lifecycle order
+     */
+    public Map<Phase, Duration> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @param phase of startup
+     * @return phase duration or zero if phase was skipped, e.g. create and start for reused container
+     */
+    public Duration getPhase(Phase phase) {
+        return phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    public Duration getTotal() {
+        return phases.values().stream()
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public Phase getSlowestPhase() {
+        return phases.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(Phase.READY);
+    }
+
+    /**
+     * @return true if existing container was reused instead of creating new one
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    @Override
+    public String toString() {
+        return "[total=" + getTotal()
+                + ", phases=" + phases
+                + ", reused=" + reused + ']';
+    }
+}
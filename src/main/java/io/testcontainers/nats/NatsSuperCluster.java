@@ -0,0 +1,171 @@
+package io.testcontainers.nats;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * NATS Super Cluster of multiple {@link NatsCluster} linked with gateways.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/gateways">NATS gateways</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsSuperClusterBuilder
+ * @since 17.10.2026
+ */
+public class NatsSuperCluster implements NatsStartable, Startable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NatsSuperCluster.class);
+
+    private final Map<String, NatsCluster> clusters;
+    private final NatsCluster.Lifecycle lifecycle;
+
+    NatsSuperCluster(Map<String, NatsCluster> clusters, NatsCluster.Lifecycle lifecycle) {
+        this.clusters = new LinkedHashMap<>(clusters);
+        this.lifecycle = lifecycle;
+    }
+
+    public static NatsSuperClusterBuilder builder(String imageVersion) {
+        return new NatsSuperClusterBuilder(DockerImageName.parse(imageVersion));
+    }
+
+    public static NatsSuperClusterBuilder builder(DockerImageName imageName) {
+        return new NatsSuperClusterBuilder(imageName);
+    }
+
+    /**
+     * @return clusters by name in builder order
+     */
+    public Map<String, NatsCluster> getClusters() {
+        return Collections.unmodifiableMap(clusters);
+    }
+
+    public NatsCluster getCluster(String name) {
+        final NatsCluster cluster = clusters.get(name);
+        if (cluster == null)
+            throw new IllegalArgumentException("Cluster not found: " + name + ", available: " + clusters.keySet());
+
+        return cluster;
+    }
+
+    /**
+     * @return client URI of each cluster by cluster name
+     */
+    public Map<String, URI> getURIs() {
+        final Map<String, URI> uris = new LinkedHashMap<>();
+        clusters.forEach((name, cluster) -> uris.put(name, cluster.getURI()));
+        return uris;
+    }
+
+    /**
+     * @return hosts and ports of all nodes interleaved across clusters, so consecutive entries belong to different
+     *             clusters
+     */
+    public List<NatsCluster.HostAndPort> getHostsAndPorts() {
+        final List<List<NatsCluster.HostAndPort>> clusterHosts = new ArrayList<>();
+        clusters.values().forEach(cluster -> clusterHosts.add(cluster.getHostsAndPorts()));
+
+        final List<NatsCluster.HostAndPort> hosts = new ArrayList<>();
+        final int maxNodes = clusterHosts.stream().mapToInt(List::size).max().orElse(0);
+        for (int i = 0; i < maxNodes; i++) {
+            for (List<NatsCluster.HostAndPort> clusterHost : clusterHosts) {
+                if (i < clusterHost.size()) {
+                    hosts.add(clusterHost.get(i));
+                }
+            }
+        }
+        return hosts;
+    }
+
+    private NatsCluster first() {
+        return clusters.values().iterator().next();
+    }
+
+    @Nullable
+    public String getUsername() {
+        return first().getUsername();
+    }
+
+    @Nullable
+    public String getPassword() {
+        return first().getPassword();
+    }
+
+    @Nullable
+    public String getToken() {
+        return first().getToken();
+    }
+
+    public URI getURI() {
+        return first().getURI();
+    }
+
+    public URI getMonitoringURI() {
+        return first().getMonitoringURI();
+    }
+
+    public NatsMonitoring getMonitoring() {
+        return first().getMonitoring();
+    }
+
+    public int getPort() {
+        return first().getPort();
+    }
+
+    public int getPortRouting() {
+        return first().getPortRouting();
+    }
+
+    public int getPortMonitoring() {
+        return first().getPortMonitoring();
+    }
+
+    /**
+     * Starts all clusters in parallel and returns only when each node of each cluster has outbound gateway
+     * connections to all other clusters.
+     * <p>
+     * When any cluster fails to start or timeout is exceeded, all clusters are stopped without waiting for other
+     * clusters.
+     */
+    @Override
+    public void start() {
+        // clusters share image, so it is prepared before clusters are started in parallel
+        clusters.values().forEach(NatsCluster::prepare);
+
+        // each cluster awaits its nodes and routes within own timeouts
+        final List<NatsCluster> startables = new ArrayList<>(clusters.values());
+        lifecycle.startAll(startables, 0, lifecycle.startTimeout.plus(lifecycle.routesTimeout), "super cluster",
+                () -> NatsCluster.Lifecycle.await(waitForGatewaysAsync(), lifecycle.routesTimeout,
+                        "super cluster gateways"),
+                e -> logger.warn("Super cluster startup failed, stopping {} clusters: {}", startables.size(),
+                        e.getMessage()));
+    }
+
+    private CompletableFuture<Void> waitForGatewaysAsync() {
+        final int gateways = clusters.size() - 1;
+        final CompletableFuture[] futures = clusters.values().stream()
+                .flatMap(cluster -> cluster.getNodes().stream())
+                .map(c -> CompletableFuture.runAsync(() -> new NatsGatewaysWaitStrategy(gateways)
+                        .withStartupTimeout(lifecycle.routesTimeout)
+                        .waitUntilReady(c), lifecycle.executor))
+                .toArray(CompletableFuture[]::new);
+        return NatsCluster.Lifecycle.allOfFailFast(futures);
+    }
+
+    @Override
+    public void stop() {
+        final CompletableFuture[] stopped = clusters.values().stream()
+                .map(cluster -> CompletableFuture.runAsync(cluster::stop, lifecycle.executor))
+                .toArray(CompletableFuture[]::new);
+        NatsCluster.Lifecycle.await(CompletableFuture.allOf(stopped), lifecycle.stopTimeout, "super cluster stop");
+    }
+}
@@ -0,0 +1,215 @@
+package io.testcontainers.nats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * NATS Super Cluster {@link NatsSuperCluster} Builder, each cluster is built via {@link NatsClusterBuilder} and
+ * clusters are linked with gateway connections.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/gateways">NATS gateways</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class NatsSuperClusterBuilder {
+
+    private static final int NODES_DEFAULT = 3;
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z0-9-]+");
+
+    private final DockerImageName image;
+
+    private final Map<String, Integer> clusters = new LinkedHashMap<>();
+    @Nullable
+    private NatsJetStream jetStream;
+    @Nullable
+    private NatsConfig config;
+    @Nullable
+    private NatsResources resources;
+    private NatsCluster.StartupMode startupMode = NatsCluster.StartupMode.LEADER;
+    private final NatsCluster.Lifecycle lifecycle = new NatsCluster.Lifecycle();
+
+    NatsSuperClusterBuilder(DockerImageName image) {
+        this.image = image;
+    }
+
+    public NatsSuperClusterBuilder withCluster(String name) {
+        return withCluster(name, NODES_DEFAULT);
+    }
+
+    /**
+     * @param name  of cluster, e.g. region name
+     * @param nodes number of cluster nodes with leader included
+     * @return self
+     */
+    public NatsSuperClusterBuilder withCluster(String name, int nodes) {
+        if (!NAME_PATTERN.matcher(Objects.requireNonNull(name)).matches())
+            throw new IllegalArgumentException(
+                    "Cluster name can contain only letters, digits and '-', but was: " + name);
+        if (nodes < 2)
+            throw new IllegalArgumentException("Cluster nodes can not be less 2");
+
+        this.clusters.put(name, nodes);
+        return this;
+    }
+
+    /**
+     * @param jetStream storage configuration applied to each node of each cluster
+     * @return self
+     */
+    public NatsSuperClusterBuilder withJetStream(NatsJetStream jetStream) {
+        this.jetStream = jetStream;
+        return this;
+    }
+
+    /**
+     * @param config server configuration applied to each node of each cluster
+     * @return self
+     */
+    public NatsSuperClusterBuilder withConfig(NatsConfig config) {
+        this.config = Objects.requireNonNull(config);
+        return this;
+    }
+
+    /**
+     * @param resources CPU and memory limits applied to each node of each cluster
+     * @return self
+     */
+    public NatsSuperClusterBuilder withResources(NatsResources resources) {
+        this.resources = Objects.requireNonNull(resources);
+        return this;
+    }
+
+    /**
+     * @param startupMode nodes startup mode of each cluster
+     * @return self
+     */
+    public NatsSuperClusterBuilder withStartupMode(NatsCluster.StartupMode startupMode) {
+        this.startupMode = Objects.requireNonNull(startupMode);
+        return this;
+    }
+
+    /**
+     * @param executor used to start, stop and await clusters and their nodes, cached daemon thread pool shared by
+     *                     clusters is used by default
+     * @return self
+     */
+    public NatsSuperClusterBuilder withExecutor(Executor executor) {
+        this.lifecycle.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * @param startTimeout for all nodes of each cluster to start, 2 minutes by default
+     * @return self
+     */
+    public NatsSuperClusterBuilder withStartTimeout(Duration startTimeout) {
+        this.lifecycle.startTimeout = NatsCluster.Lifecycle.requirePositive(startTimeout, "Start timeout");
+        return this;
+    }
+
+    /**
+     * @param routesTimeout for each node to have routes to its cluster nodes and then gateways to all other
+     *                          clusters, 2 minutes by default
+     * @return self
+     */
+    public NatsSuperClusterBuilder withRoutesTimeout(Duration routesTimeout) {
+        this.lifecycle.routesTimeout = NatsCluster.Lifecycle.requirePositive(routesTimeout, "Routes timeout");
+        return this;
+    }
+
+    /**
+     * @param stopTimeout for all clusters to stop, 2 minutes by default
+     * @return self
+     */
+    public NatsSuperClusterBuilder withStopTimeout(Duration stopTimeout) {
+        this.lifecycle.stopTimeout = NatsCluster.Lifecycle.requirePositive(stopTimeout, "Stop timeout");
+        return this;
+    }
+
+    public NatsSuperCluster build() {
+        return build(null);
+    }
+
+    public NatsSuperCluster build(@Nullable Network network) {
+        if (image == null)
+            throw new UnsupportedOperationException("Image version can not be empty!");
+        if (clusters.size() < 2)
+            throw new IllegalArgumentException("Clusters can not be less 2");
+
+        // Gateway name must match cluster name, which is derived from cluster id
+        final String superClusterId = RandomStringUtils.randomAlphanumeric(8);
+        final Map<String, String> clusterIds = new LinkedHashMap<>();
+        clusters.keySet().forEach(name -> clusterIds.put(name, name + "-" + superClusterId));
+
+        final Map<String, NatsCluster> built = new LinkedHashMap<>();
+        clusters.forEach((name, nodes) -> {
+            final NatsConfig gatewayConfig = new NatsConfig()
+                    .withProperty("gateway", getGatewayConfig(clusterIds.get(name), clusterIds));
+            final NatsConfig clusterConfig = (config == null)
+                    ? gatewayConfig
+                    : config.merge(gatewayConfig);
+
+            final NatsClusterBuilder builder = NatsCluster.builder(image)
+                    .withNodes(nodes - 1)
+                    .withClusterId(clusterIds.get(name))
+                    .withStartupMode(startupMode)
+                    .withConfig(clusterConfig)
+                    .withExecutor(lifecycle.executor)
+                    .withStartTimeout(lifecycle.startTimeout)
+                    .withRoutesTimeout(lifecycle.routesTimeout)
+                    .withStopTimeout(lifecycle.stopTimeout);
+            if (jetStream != null) {
+                builder.withJetStream(jetStream);
+            }
+            if (resources != null) {
+                builder.withResources(resources);
+            }
+
+            final NatsCluster cluster = builder.build(network);
+            cluster.getNodes().forEach(node -> node.addExposedPort(NatsContainer.PORT_GATEWAY));
+            built.put(name, cluster);
+        });
+
+        return new NatsSuperCluster(built, lifecycle);
+    }
+
+    private String getGatewayConfig(String clusterId, Map<String, String> clusterIds) {
+        final String gateways = clusterIds.entrySet().stream()
+                .filter(e -> !e.getValue().equals(clusterId))
+                .map(e -> String.format("    { name: \"%s\", urls: [%s] }",
+                        "nats-" + e.getValue(), getGatewayUrls(e.getValue(), clusters.get(e.getKey()))))
+                .collect(Collectors.joining("\n"));
+
+        return "{\n"
+                + "  name: \"nats-" + clusterId + "\"\n"
+                + "  port: " + NatsContainer.PORT_GATEWAY + "\n"
+                + "  gateways: [\n"
+                + gateways + "\n"
+                + "  ]\n"
+                + "}";
+    }
+
+    private static String getGatewayUrls(String clusterId, int nodes) {
+        final List<String> urls = new ArrayList<>(nodes);
+        urls.add(NatsClusterContainer.NodeType.LEADER.alias(clusterId, 0));
+        for (int i = 1; i < nodes; i++) {
+            urls.add(NatsClusterContainer.NodeType.NODE.alias(clusterId, i));
+        }
+
+        return urls.stream()
+                .map(alias -> String.format("\"nats://%s:%s\"", alias, NatsContainer.PORT_GATEWAY))
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,126 @@
+package io.testcontainers.nats;
+
+import java.net.URI;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scope of single test that uses servers shared via {@link NatsShared}, with unique subject prefix and
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/securing_nats/accounts">account</a> that is
+ * not used by any other test while scope is active.
+ * <p>
+ * Account is returned to pool after test, streams and buckets created by test stay in account, so their names
+ * should be derived via {@link #getName(String)}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see NatsShared
+ * @since 17.10.2026
+ */
+public final class NatsTestScope implements NatsStartable {
+
+    private final NatsStartable startable;
+    private final String prefix;
+    private final String account;
+    private final String username;
+    private final String password;
+
+    NatsTestScope(NatsStartable startable, String prefix, String account, String username, String password) {
+        this.startable = startable;
+        this.prefix = prefix;
+        this.account = account;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * @return shared servers
+     */
+    public NatsStartable getStartable() {
+        return startable;
+    }
+
+    /**
+     * @return subject prefix unique for test run, e.g. <b>t17</b>
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @param subject relative to scope
+     * @return subject with scope prefix, e.g. <b>t17.orders</b>
+     */
+    public String getSubject(String subject) {
+        return prefix + "." + Objects.requireNonNull(subject);
+    }
+
+    /**
+     * @param name of stream, consumer or bucket relative to scope
+     * @return name with scope prefix, e.g. <b>t17-orders</b>
+     */
+    public String getName(String name) {
+        return prefix + "-" + Objects.requireNonNull(name);
+    }
+
+    public String getAccount() {
+        return account;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Nullable
+    @Override
+    public String getToken() {
+        return null;
+    }
+
+    @Override
+    public URI getURI() {
+        final URI uri = startable.getURI();
+        return URI.create(String.format("nats://%s:%s@%s:%s", username, password, uri.getHost(), uri.getPort()));
+    }
+
+    @Override
+    public URI getMonitoringURI() {
+        return startable.getMonitoringURI();
+    }
+
+    @Override
+    public NatsMonitoring getMonitoring() {
+        return startable.getMonitoring();
+    }
+
+    @Override
+    public int getPort() {
+        return startable.getPort();
+    }
+
+    @Override
+    public int getPortRouting() {
+        return startable.getPortRouting();
+    }
+
+    @Override
+    public int getPortMonitoring() {
+        return startable.getPortMonitoring();
+    }
+
+    @Nullable
+    @Override
+    public NatsTls getTls() {
+        return startable.getTls();
+    }
+
+    @Override
+    public String toString() {
+        return "[prefix=" + prefix + ", account=" + account + ']';
+    }
+}
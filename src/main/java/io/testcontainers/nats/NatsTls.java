@@ -0,0 +1,402 @@
+package io.testcontainers.nats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * TLS for client and route connections with throwaway certificate authority and certificates generated in process
+ * on first use, so no certificates have to be prepared or stored for tests.
+ * <p>
+ * Each server gets its own certificate for <b>localhost</b>, docker host and its network aliases, clients use
+ * {@link #getSSLContext()} that trusts generated authority and presents client certificate when mutual TLS is
+ * enabled. Certificates use EC P-256 keys and are valid for {@link #VALIDITY}.
+ * <p>
+ * <a href="https://docs.nats.io/running-a-nats-service/configuration/securing_nats/tls">NATS TLS</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class NatsTls {
+
+    /**
+     * Validity of generated certificates
+     */
+    public static final Duration VALIDITY = Duration.ofDays(7);
+
+    static final String DIRECTORY = "/etc/nats/tls";
+    static final String CA_FILE = DIRECTORY + "/ca.pem";
+    static final String CERT_FILE = DIRECTORY + "/server.pem";
+    static final String KEY_FILE = DIRECTORY + "/server-key.pem";
+
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSA";
+    private static final Duration HANDSHAKE_TIMEOUT = Duration.ofSeconds(5);
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // ASN.1 DER tags and object identifiers used for certificate encoding
+    private static final int BOOLEAN = 0x01;
+    private static final int INTEGER = 0x02;
+    private static final int BIT_STRING = 0x03;
+    private static final int OCTET_STRING = 0x04;
+    private static final int OBJECT_IDENTIFIER = 0x06;
+    private static final int UTF8_STRING = 0x0C;
+    private static final int UTC_TIME_TAG = 0x17;
+    private static final int SEQUENCE = 0x30;
+    private static final int SET = 0x31;
+    private static final String OID_ECDSA_SHA256 = "1.2.840.10045.4.3.2";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_KEY_USAGE = "2.5.29.15";
+    private static final String OID_EXT_KEY_USAGE = "2.5.29.37";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_SERVER_AUTH = "1.3.6.1.5.5.7.3.1";
+    private static final String OID_CLIENT_AUTH = "1.3.6.1.5.5.7.3.2";
+
+    /**
+     * Certificate with private key in PEM format
+     */
+    static final class Issued {
+
+        private final X509Certificate certificate;
+        private final PrivateKey privateKey;
+
+        private Issued(X509Certificate certificate, PrivateKey privateKey) {
+            this.certificate = certificate;
+            this.privateKey = privateKey;
+        }
+
+        String getCertificatePem() {
+            return toPem("CERTIFICATE", encoded(certificate));
+        }
+
+        String getPrivateKeyPem() {
+            return toPem("PRIVATE KEY", privateKey.getEncoded());
+        }
+    }
+
+    private boolean mutual = false;
+    private boolean routes = false;
+
+    @Nullable
+    private Issued authority;
+    @Nullable
+    private SSLContext sslContext;
+
+    /**
+     * Clients must present certificate issued by generated authority (verify)
+     *
+     * @return self
+     */
+    public NatsTls withMutual() {
+        this.mutual = true;
+        return this;
+    }
+
+    /**
+     * Route connections between cluster nodes use TLS with certificates verified on both sides
+     *
+     * @return self
+     */
+    public NatsTls withRoutes() {
+        this.routes = true;
+        return this;
+    }
+
+    public boolean isMutual() {
+        return mutual;
+    }
+
+    public boolean isRoutes() {
+        return routes;
+    }
+
+    /**
+     * @return generated certificate authority
+     */
+    public X509Certificate getCaCertificate() {
+        return getAuthority().certificate;
+    }
+
+    /**
+     * @return generated certificate authority in PEM format
+     */
+    public String getCaPem() {
+        return getAuthority().getCertificatePem();
+    }
+
+    /**
+     * @return SSL context that trusts generated authority and presents client certificate if TLS is mutual
+     */
+    public synchronized SSLContext getSSLContext() {
+        if (sslContext != null) {
+            return sslContext;
+        }
+
+        try {
+            final KeyStore trustStore = KeyStore.getInstance("PKCS12");
+            trustStore.load(null, null);
+            trustStore.setCertificateEntry("ca", getCaCertificate());
+            final TrustManagerFactory trustManagers = TrustManagerFactory
+                    .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagers.init(trustStore);
+
+            final SSLContext context = SSLContext.getInstance("TLS");
+            if (mutual) {
+                final char[] password = new char[0];
+                final Issued client = issue("client", Set.of());
+                final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+                keyStore.load(null, null);
+                keyStore.setKeyEntry("client", client.privateKey, password,
+                        new Certificate[] { client.certificate, getCaCertificate() });
+                final KeyManagerFactory keyManagers = KeyManagerFactory
+                        .getInstance(KeyManagerFactory.getDefaultAlgorithm());
+                keyManagers.init(keyStore, password);
+                context.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), RANDOM);
+            } else {
+                context.init(null, trustManagers.getTrustManagers(), RANDOM);
+            }
+
+            this.sslContext = context;
+            return context;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Failed to create SSL context for generated certificates", e);
+        }
+    }
+
+    /**
+     * @param commonName of certificate
+     * @param hosts      DNS names and IP addresses certificate is valid for, can be empty for client certificate
+     * @return certificate for server and client authentication signed by generated authority
+     */
+    Issued issue(String commonName, Collection<String> hosts) {
+        final Issued ca = getAuthority();
+        final KeyPair keyPair = generateKeyPair();
+        final byte[] constraints = extension(OID_BASIC_CONSTRAINTS, true, sequence());
+        // digitalSignature
+        final byte[] keyUsage = extension(OID_KEY_USAGE, true, tlv(BIT_STRING, new byte[] { 0x07, (byte) 0x80 }));
+        final byte[] extendedKeyUsage = extension(OID_EXT_KEY_USAGE, false,
+                sequence(oid(OID_SERVER_AUTH), oid(OID_CLIENT_AUTH)));
+        // SubjectAltName must contain at least one name, so it is omitted for client certificate without hosts
+        final byte[] extensions = (hosts.isEmpty())
+                ? sequence(constraints, keyUsage, extendedKeyUsage)
+                : sequence(constraints, keyUsage, extendedKeyUsage,
+                        extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(hosts)));
+        final X509Certificate certificate = sign(name(commonName), keyPair, ca.certificate, ca.privateKey, extensions);
+        return new Issued(certificate, keyPair.getPrivate());
+    }
+
+    /**
+     * @return server TLS configuration block for client connections
+     */
+    String getConfig() {
+        return "tls {\n" + getTlsBlock("  ", mutual) + "}\n";
+    }
+
+    /**
+     * @return TLS configuration block for cluster block or null if routes do not use TLS
+     */
+    @Nullable
+    String getRoutesConfig() {
+        return (routes)
+                ? "  tls {\n" + getTlsBlock("    ", true) + "  }\n"
+                : null;
+    }
+
+    private static String getTlsBlock(String indent, boolean verify) {
+        final StringBuilder builder = new StringBuilder()
+                .append(indent).append("cert_file: \"").append(CERT_FILE).append("\"\n")
+                .append(indent).append("key_file: \"").append(KEY_FILE).append("\"\n")
+                .append(indent).append("ca_file: \"").append(CA_FILE).append("\"\n")
+                .append(indent).append("timeout: ").append(HANDSHAKE_TIMEOUT.toSeconds()).append("\n");
+        if (verify) {
+            builder.append(indent).append("verify: true\n");
+        }
+        return builder.toString();
+    }
+
+    private synchronized Issued getAuthority() {
+        if (authority == null) {
+            final KeyPair keyPair = generateKeyPair();
+            final byte[] subject = name("NATS Testcontainers CA");
+            final byte[] extensions = sequence(
+                    extension(OID_BASIC_CONSTRAINTS, true, sequence(tlv(BOOLEAN, new byte[] { (byte) 0xFF }))),
+                    // digitalSignature, keyCertSign and cRLSign
+                    extension(OID_KEY_USAGE, true, tlv(BIT_STRING, new byte[] { 0x01, (byte) 0x86 })));
+            authority = new Issued(sign(subject, keyPair, null, keyPair.getPrivate(), extensions),
+                    keyPair.getPrivate());
+        }
+        return authority;
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), RANDOM);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate EC key pair", e);
+        }
+    }
+
+    private static X509Certificate sign(byte[] subject,
+                                        KeyPair keyPair,
+                                        @Nullable X509Certificate issuer,
+                                        PrivateKey issuerKey,
+                                        byte[] extensions) {
+        final Instant now = Instant.now();
+        final byte[] algorithm = sequence(oid(OID_ECDSA_SHA256));
+        final byte[] tbs = sequence(
+                tlv(0xA0, integer(BigInteger.valueOf(2))),
+                integer(new BigInteger(64, RANDOM).add(BigInteger.ONE)),
+                algorithm,
+                (issuer == null) ? subject : issuer.getSubjectX500Principal().getEncoded(),
+                sequence(utcTime(now.minus(Duration.ofHours(1))), utcTime(now.plus(VALIDITY))),
+                subject,
+                keyPair.getPublic().getEncoded(),
+                tlv(0xA3, extensions));
+
+        try {
+            final Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initSign(issuerKey);
+            signature.update(tbs);
+            final byte[] signed = signature.sign();
+
+            final byte[] bits = new byte[signed.length + 1];
+            System.arraycopy(signed, 0, bits, 1, signed.length);
+            final byte[] certificate = sequence(tbs, algorithm, tlv(BIT_STRING, bits));
+            return (X509Certificate) CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(certificate));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign generated certificate", e);
+        }
+    }
+
+    private static byte[] subjectAltNames(Collection<String> hosts) {
+        final Set<String> names = new LinkedHashSet<>(hosts);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (String host : names) {
+            if (IPV4.matcher(host).matches() || host.contains(":")) {
+                try {
+                    // iPAddress [7]
+                    output.writeBytes(tlv(0x87, InetAddress.getByName(host).getAddress()));
+                } catch (UnknownHostException e) {
+                    throw new IllegalArgumentException("Invalid IP address: " + host, e);
+                }
+            } else {
+                // dNSName [2]
+                output.writeBytes(tlv(0x82, host.getBytes(StandardCharsets.US_ASCII)));
+            }
+        }
+        return tlv(SEQUENCE, output.toByteArray());
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        return (critical)
+                ? sequence(oid(oid), tlv(BOOLEAN, new byte[] { (byte) 0xFF }), tlv(OCTET_STRING, value))
+                : sequence(oid(oid), tlv(OCTET_STRING, value));
+    }
+
+    private static byte[] name(String commonName) {
+        return sequence(tlv(SET, sequence(oid(OID_COMMON_NAME),
+                tlv(UTF8_STRING, commonName.getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    private static byte[] utcTime(Instant instant) {
+        return tlv(UTC_TIME_TAG, UTC_TIME.format(instant).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] integer(BigInteger value) {
+        return tlv(INTEGER, value.toByteArray());
+    }
+
+    private static byte[] oid(String oid) {
+        final String[] parts = oid.split("\\.");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(Integer.parseInt(parts[0]) * 40 + Integer.parseInt(parts[1]));
+        for (int i = 2; i < parts.length; i++) {
+            long value = Long.parseLong(parts[i]);
+            final byte[] base128 = new byte[10];
+            int position = base128.length;
+            base128[--position] = (byte) (value & 0x7F);
+            value >>>= 7;
+            while (value > 0) {
+                base128[--position] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.write(base128, position, base128.length - position);
+        }
+        return tlv(OBJECT_IDENTIFIER, output.toByteArray());
+    }
+
+    private static byte[] sequence(byte[]... elements) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (byte[] element : elements) {
+            output.writeBytes(element);
+        }
+        return tlv(SEQUENCE, output.toByteArray());
+    }
+
+    private static byte[] tlv(int tag, byte[] value) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(value.length + 6);
+        output.write(tag);
+        if (value.length < 0x80) {
+            output.write(value.length);
+        } else {
+            final byte[] length = BigInteger.valueOf(value.length).toByteArray();
+            final int offset = (length[0] == 0) ? 1 : 0;
+            output.write(0x80 | (length.length - offset));
+            output.write(length, offset, length.length - offset);
+        }
+        output.writeBytes(value);
+        return output.toByteArray();
+    }
+
+    private static byte[] encoded(X509Certificate certificate) {
+        try {
+            return certificate.getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encode generated certificate", e);
+        }
+    }
+
+    private static String toPem(String type, byte[] der) {
+        final String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
+
+    @Override
+    public String toString() {
+        return "[mutual=" + mutual + ", routes=" + routes + ']';
+    }
+}
@@ -3,8 +3,12 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.nats.client.Connection;
+import io.nats.client.JetStreamManagement;
 import io.nats.client.Nats;
 import io.nats.client.Options;
+import io.nats.client.api.PublishAck;
+import io.nats.client.api.StorageType;
+import io.nats.client.api.StreamConfiguration;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -43,6 +47,34 @@ void checkMonitoringOk(NatsStartable container) {
     void checkConnectionEstablished(NatsStartable container) {
         var uri = container.getURI();
 
+        try (Connection connection = Nats.connect(getOptions(container))) {
+            connection.publish("subj", "subjValue".getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed connection for URI: " + uri, e);
+        }
+    }
+
+    void checkJetStreamPublished(NatsStartable container, StorageType storageType) {
+        var uri = container.getURI();
+
+        try (Connection connection = Nats.connect(getOptions(container))) {
+            JetStreamManagement management = connection.jetStreamManagement();
+            management.addStream(StreamConfiguration.builder()
+                    .name("stream")
+                    .subjects("stream.>")
+                    .storageType(storageType)
+                    .build());
+
+            PublishAck ack = connection.jetStream().publish("stream.subj", "subjValue".getBytes(StandardCharsets.UTF_8));
+            assertEquals("stream", ack.getStream());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed JetStream publish for URI: " + uri, e);
+        }
+    }
+
+    Options getOptions(NatsStartable container) {
+        var uri = container.getURI();
+
         var opsBuilder = Options.builder()
                 .server(uri.toString())
                 .reconnectWait(Duration.ofMillis(500))
@@ -55,10 +87,6 @@ void checkConnectionEstablished(NatsStartable container) {
             opsBuilder.userInfo(container.getUsername(), container.getPassword());
         }
 
-        try (Connection connection = Nats.connect(opsBuilder.build())) {
-            connection.publish("subj", "subjValue".getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed connection for URI: " + uri, e);
-        }
+        return opsBuilder.build();
     }
 }
@@ -0,0 +1,40 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterConfigTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withConfig(new NatsConfig()
+                    .withMaxPayload(2 * 1024 * 1024)
+                    .withMaxConnections(100)
+                    .withRoutePoolSize(1))
+            .withNodeConfig(2, new NatsConfig().withMaxConnections(50))
+            .build();
+
+    @Test
+    void checkNodesConfigAppliedOk() {
+        final Map<String, NatsMonitoring.Varz> varz = container.getNodesMonitoring(NatsMonitoring::varzAsync);
+        varz.values().forEach(v -> assertEquals(2 * 1024 * 1024, v.getMaxPayload()));
+        assertEquals(100, varz.get(container.getNodes().get(0).getAlias()).getMaxConnections());
+        assertEquals(100, varz.get(container.getNodes().get(1).getAlias()).getMaxConnections());
+        assertEquals(50, varz.get(container.getNodes().get(2).getAlias()).getMaxConnections());
+    }
+
+    @Test
+    void checkRoutePoolSizeOk() {
+        container.getNodes().forEach(node -> assertEquals(2, node.getMonitoring().routez().getNumRoutes()));
+    }
+}
@@ -0,0 +1,64 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterExecutorTests extends AbstractNatsRunner {
+
+    private static final AtomicInteger tasks = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withExecutor(task -> {
+                tasks.incrementAndGet();
+                executor.execute(task);
+            })
+            .withStartTimeout(Duration.ofMinutes(1))
+            .withRoutesTimeout(Duration.ofSeconds(30))
+            .withStopTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @AfterAll
+    static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void checkExecutorUsedOk() {
+        assertTrue(tasks.get() >= container.getNodes().size());
+        for (NatsClusterContainer node : container.getNodes()) {
+            checkMonitoringOk(node);
+        }
+    }
+
+    @Test
+    void checkStartTimeoutTearsDownNodes() throws InterruptedException {
+        final NatsCluster cluster = NatsCluster.builder("nats:2.11-alpine")
+                .withStartupMode(NatsCluster.StartupMode.PARALLEL)
+                .withStartTimeout(Duration.ofMillis(1))
+                .build();
+
+        assertThrows(IllegalStateException.class, cluster::start);
+
+        final long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (cluster.getNodes().stream().anyMatch(NatsContainer::isRunning) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(cluster.getNodes().stream().noneMatch(NatsContainer::isRunning));
+    }
+}
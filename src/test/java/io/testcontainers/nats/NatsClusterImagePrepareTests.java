@@ -0,0 +1,42 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterImagePrepareTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withStartupMode(NatsCluster.StartupMode.PARALLEL)
+            .build();
+
+    @Test
+    void checkImagePreparedOnceOk() {
+        final NatsClusterStartupReport report = container.getStartupReport();
+        assertNotNull(report.getImagePrepared());
+
+        container.prepare();
+        assertEquals(report, container.getStartupReport());
+        for (NatsClusterContainer node : container.getNodes()) {
+            checkMonitoringOk(node);
+        }
+    }
+
+    @Test
+    void checkImageArchiveNotFoundFails() {
+        final NatsClusterBuilder builder = NatsCluster.builder("nats:2.11-alpine")
+                .withImageArchive(Path.of("not-existing-nats-image.tar"));
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
@@ -0,0 +1,37 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nats.client.api.StorageType;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterJetStreamTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withJetStream(NatsJetStream.memory().withMaxMemoryStore(64 * 1024 * 1024))
+            .build();
+
+    @Test
+    void checkIsRunningAndMonitoringOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkMonitoringOk(container);
+    }
+
+    @Test
+    void checkIsRunningAndJetStreamOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkJetStreamPublished(container, StorageType.Memory);
+    }
+}
@@ -0,0 +1,47 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterLoadTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine").build();
+
+    @Test
+    void checkPublishSubscribeLoadOk() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withPublishers(2)
+                .withSubscribers(3)
+                .withMessages(1_000)
+                .withMessageSize(64)
+                .run();
+
+        assertEquals(2_000, report.getPublished());
+        assertEquals(6_000, report.getReceived());
+        assertTrue(report.getLatencyAtPercentile(99).toNanos() > 0);
+    }
+
+    @Test
+    void checkRequestReplyLoadOk() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withPublishers(0)
+                .withSubscribers(0)
+                .withRequestReplyPairs(2)
+                .withRequests(100)
+                .withSubject("load-rr")
+                .run();
+
+        assertEquals(200, report.getRequests());
+        assertTrue(report.getRequestLatencyAtPercentile(50).toNanos() > 0);
+    }
+}
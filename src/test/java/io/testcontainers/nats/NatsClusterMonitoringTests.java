@@ -0,0 +1,57 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterMonitoringTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withJetStream(NatsJetStream.memory())
+            .build();
+
+    @Test
+    void checkVarzOk() {
+        final NatsMonitoring.Varz varz = container.getMonitoring().varz();
+        assertNotNull(varz.getServerId());
+        assertFalse(varz.getVersion().isEmpty());
+    }
+
+    @Test
+    void checkMonitoringFromUriOk() {
+        final NatsMonitoring monitoring = NatsMonitoring.of(container.getMonitoringURI());
+        assertEquals(container.getMonitoring().getURI(), monitoring.getURI());
+        assertNotNull(monitoring.varz().getServerId());
+    }
+
+    @Test
+    void checkNodesRoutezOk() {
+        final Map<String, NatsMonitoring.Routez> routez = container.getNodesMonitoring(NatsMonitoring::routezAsync);
+        assertEquals(container.getNodes().size(), routez.size());
+        routez.values().forEach(r -> assertEquals(container.getNodes().size() - 1, r.getRemoteServers()));
+    }
+
+    @Test
+    void checkJszOk() {
+        final NatsMonitoring.Jsz jsz = container.getMonitoring().jsz();
+        assertFalse(jsz.isDisabled());
+        assertNotNull(jsz.getMetaLeader());
+    }
+
+    @Test
+    void checkHealthyOk() {
+        container.getNodes().forEach(node -> assertTrue(node.getMonitoring().isHealthy()));
+    }
+}
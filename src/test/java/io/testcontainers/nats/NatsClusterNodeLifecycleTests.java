@@ -0,0 +1,115 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterNodeLifecycleTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withJetStream(NatsJetStream.memory())
+            .build();
+
+    @Test
+    void checkKillAndStartNodeOk() {
+        final String alias = container.getNodes().get(2).getAlias();
+
+        final NatsRecoveryReport killed = container.killNode(alias);
+        assertEquals(NatsRecoveryReport.Operation.KILL, killed.getOperation());
+        assertEquals(2, container.getRunningNodes().size());
+
+        final NatsRecoveryReport started = container.startNode(alias);
+        assertEquals(3, container.getRunningNodes().size());
+        assertNotNull(started.getMetaLeaderElected());
+        assertTrue(started.getRoutesRecovered().compareTo(started.getDisruption()) >= 0);
+    }
+
+    @Test
+    void checkLoadGeneratorAfterFirstNodeStoppedOk() {
+        final String alias = container.getNodes().get(0).getAlias();
+        container.stopNode(alias);
+        try {
+            assertEquals(2, container.getHostsAndPorts().size());
+            assertNotEquals(container.getNodes().get(0).getAlias(), container.getRunningNodes().get(0).getAlias());
+            assertTrue(container.getMonitoring().isHealthy());
+
+            final NatsLoadReport report = NatsLoadGenerator.of(container)
+                    .withPublishers(2)
+                    .withSubscribers(2)
+                    .withMessages(100)
+                    .run();
+            assertEquals(400, report.getReceived());
+        } finally {
+            container.startNode(alias);
+        }
+    }
+
+    @Test
+    void checkKillMetaLeaderOk() {
+        final String leader = container.getNodes().get(1).getMonitoring().jsz().getMetaLeader();
+        assertNotNull(leader);
+
+        final NatsRecoveryReport killed = container.killNode(leader);
+        assertEquals(leader, killed.getMetaLeaderBefore());
+        assertNotNull(killed.getMetaLeaderAfter());
+        assertNotEquals(leader, killed.getMetaLeaderAfter());
+
+        container.startNode(leader);
+    }
+
+    @Test
+    void checkStopNodeClientsReconnectOk() throws Exception {
+        final NatsClusterContainer node = container.getNodes().get(1);
+        // stopped node is first, so client is connected to it and reconnects to other nodes
+        final String[] servers = container.getNodes().stream()
+                .sorted((n1, n2) -> Boolean.compare(n2 == node, n1 == node))
+                .map(n -> "nats://" + n.getHost() + ":" + n.getPort())
+                .toArray(String[]::new);
+        final Options options = Options.builder()
+                .servers(servers)
+                .noRandomize()
+                .ignoreDiscoveredServers()
+                .reconnectWait(Duration.ofMillis(100))
+                .maxReconnects(-1)
+                .build();
+
+        try (Connection connection = Nats.connect(options)) {
+            final NatsRecoveryReport stopped = container.stopNode(node.getAlias());
+            assertNotNull(stopped.getClientsReconnected());
+            assertEquals(Connection.Status.CONNECTED, connection.getStatus());
+        } finally {
+            container.startNode(node.getAlias());
+        }
+    }
+
+    @Test
+    void checkPauseNodeOk() {
+        final NatsRecoveryReport paused = container.pauseNode(container.getNodes().get(1).getAlias(),
+                Duration.ofSeconds(1));
+        assertTrue(paused.getDisruption().compareTo(Duration.ofSeconds(1)) >= 0);
+        assertTrue(paused.getRecovered().compareTo(paused.getDisruption()) >= 0);
+    }
+
+    @Test
+    void checkRestartNodeOk() {
+        final NatsRecoveryReport restarted = container.restartNode(container.getNodes().get(2).getAlias());
+        assertEquals(NatsRecoveryReport.Operation.RESTART, restarted.getOperation());
+        assertEquals(3, container.getRunningNodes().size());
+    }
+}
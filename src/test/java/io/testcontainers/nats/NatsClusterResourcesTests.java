@@ -0,0 +1,53 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterResourcesTests extends AbstractNatsRunner {
+
+    private static final long MEMORY = 256L * 1024 * 1024;
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withResources(new NatsResources()
+                    .withCpus(1)
+                    .withMemory(MEMORY))
+            .withNodeResources(2, new NatsResources()
+                    .withCpus(0.5)
+                    .withGoMaxProcs(2))
+            .build();
+
+    @Test
+    void checkResourcesAppliedOk() {
+        final InspectContainerResponse leader = container.getNodes().get(0).getContainerInfo();
+        assertEquals(1_000_000_000L, leader.getHostConfig().getNanoCPUs());
+        assertEquals(MEMORY, leader.getHostConfig().getMemory());
+        final List<String> leaderEnv = List.of(leader.getConfig().getEnv());
+        assertTrue(leaderEnv.contains("GOMAXPROCS=1"));
+        assertTrue(leaderEnv.contains("GOMEMLIMIT=" + (long) (MEMORY * 0.9)));
+
+        final InspectContainerResponse node = container.getNodes().get(2).getContainerInfo();
+        assertEquals(500_000_000L, node.getHostConfig().getNanoCPUs());
+        assertEquals(MEMORY, node.getHostConfig().getMemory());
+        assertTrue(List.of(node.getConfig().getEnv()).contains("GOMAXPROCS=2"));
+    }
+
+    @Test
+    void checkIsRunningAndMonitoringOk() {
+        for (NatsClusterContainer node : container.getNodes()) {
+            assertTrue(node.isRunning());
+            checkMonitoringOk(node);
+        }
+    }
+}
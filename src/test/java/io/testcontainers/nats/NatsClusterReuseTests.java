@@ -0,0 +1,50 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterReuseTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withUsernameAndPassword("user", "pass")
+            .withReuse(true)
+            .build();
+
+    @Test
+    void checkIsRunningAndMonitoringOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkMonitoringOk(container);
+    }
+
+    @Test
+    void checkIsRunningAndMessageOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkConnectionEstablished(container);
+    }
+
+    @Test
+    void checkAliasesAreStable() {
+        final NatsCluster other = NatsCluster.builder("nats:2.11-alpine")
+                .withUsernameAndPassword("user", "pass")
+                .withReuse(true)
+                .build();
+
+        for (int i = 0; i < container.getNodes().size(); i++) {
+            assertEquals(container.getNodes().get(i).getAlias(), other.getNodes().get(i).getAlias());
+        }
+    }
+}
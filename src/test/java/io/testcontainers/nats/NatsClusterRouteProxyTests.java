@@ -0,0 +1,66 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterRouteProxyTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withRouteProxy()
+            .build();
+
+    @Test
+    void checkRouteLinksOk() {
+        assertEquals(3, container.getRouteLinks().size());
+        container.getNodes().forEach(node -> assertEquals(2, container.getRouteLinks(node.getAlias()).size()));
+    }
+
+    @Test
+    void checkRouteLatencyOk() {
+        final List<NatsRouteLink> links = container.getRouteLinks();
+        try {
+            links.forEach(link -> link.withLatency(Duration.ofMillis(50)));
+
+            final NatsLoadReport report = NatsLoadGenerator.of(container)
+                    .withMessages(100)
+                    .withSubject("load-latency")
+                    .run();
+
+            assertEquals(100, report.getReceived());
+            assertTrue(report.getLatencyAtPercentile(50).toMillis() >= 50);
+        } finally {
+            links.forEach(NatsRouteLink::heal);
+        }
+    }
+
+    @Test
+    void checkRoutePartitionAndHealOk() throws InterruptedException {
+        final NatsClusterContainer node = container.getNodes().get(2);
+        final List<NatsRouteLink> links = container.getRouteLinks(node.getAlias());
+        try {
+            links.forEach(NatsRouteLink::partition);
+            for (int i = 0; i < 100 && node.getMonitoring().routez().getRemoteServers() > 0; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(0, node.getMonitoring().routez().getRemoteServers());
+        } finally {
+            links.forEach(NatsRouteLink::heal);
+        }
+
+        new NatsRoutesWaitStrategy(2).waitUntilReady(node);
+        assertEquals(2, node.getMonitoring().routez().getRemoteServers());
+    }
+}
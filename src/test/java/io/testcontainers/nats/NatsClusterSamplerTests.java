@@ -0,0 +1,67 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterSamplerTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .build();
+
+    @Test
+    void checkSamplesExportedToCsvOk(@TempDir Path directory) throws Exception {
+        final Path file = directory.resolve("samples.csv");
+        try (NatsSampler sampler = NatsSampler.of(container)
+                .withInterval(Duration.ofMillis(100))
+                .withExport(file)
+                .start()) {
+            NatsLoadGenerator.of(container)
+                    .withMessages(1_000)
+                    .run();
+            Thread.sleep(500);
+            assertEquals(0, sampler.getErrors());
+        }
+
+        final List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.get(0).startsWith("server,timestamp,cpu,mem"));
+        for (NatsClusterContainer node : container.getNodes()) {
+            assertTrue(lines.stream().anyMatch(line -> line.startsWith(node.getAlias() + ",")));
+        }
+    }
+
+    @Test
+    void checkRingBufferKeepsLatestSamplesOk(@TempDir Path directory) throws Exception {
+        final Path file = directory.resolve("samples.json");
+        final NatsSampler sampler = NatsSampler.of(container)
+                .withInterval(Duration.ofMillis(50))
+                .withCapacity(2)
+                .withExport(file)
+                .start();
+        Thread.sleep(1000);
+        sampler.stop();
+
+        final Map<String, List<NatsSampler.Sample>> samples = sampler.getSamples();
+        assertEquals(3, samples.size());
+        samples.values().forEach(nodeSamples -> assertTrue(nodeSamples.size() <= 2));
+        assertTrue(sampler.getDropped() > 0);
+        assertFalse(Files.readString(file).isEmpty());
+    }
+}
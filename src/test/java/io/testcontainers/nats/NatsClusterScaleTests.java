@@ -0,0 +1,50 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterScaleTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withConfig(new NatsConfig()
+                    .withLameDuckDuration(Duration.ofSeconds(5))
+                    .withLameDuckGracePeriod(Duration.ofSeconds(1)))
+            .build();
+
+    @Test
+    void checkAddAndRemoveNodeOk() {
+        final NatsClusterContainer added = container.addNode();
+        assertEquals(4, container.getNodes().size());
+        assertTrue(added.isRunning());
+        for (NatsClusterContainer node : container.getNodes()) {
+            assertEquals(3, node.getMonitoring().routez().getRemoteServers());
+        }
+
+        container.removeNode(added.getAlias());
+        assertEquals(3, container.getNodes().size());
+        assertFalse(added.isRunning());
+        for (NatsClusterContainer node : container.getNodes()) {
+            assertEquals(2, node.getMonitoring().routez().getRemoteServers());
+        }
+    }
+
+    @Test
+    void checkRemoveLeaderFails() {
+        final String leader = container.getNodes().get(0).getAlias();
+        assertThrows(IllegalArgumentException.class, () -> container.removeNode(leader));
+    }
+}
@@ -0,0 +1,102 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.api.KeyValueConfiguration;
+import io.nats.client.api.StorageType;
+import io.nats.client.api.StreamConfiguration;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterSeederTests extends AbstractNatsRunner {
+
+    private static final int RECORDS = 1000;
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withJetStream(NatsJetStream.tmpfs())
+            .build();
+
+    @Test
+    void checkStreamSeededFromNdjsonOk(@TempDir Path directory) throws Exception {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            lines.add("{\"subject\":\"orders." + i + "\",\"data\":{\"id\":" + i + "}}");
+        }
+        final Path file = Files.write(directory.resolve("orders.ndjson"), lines);
+
+        final NatsSeedReport report = NatsSeeder.of(container)
+                .withNdjson(file)
+                .withStream(StreamConfiguration.builder()
+                        .name("orders")
+                        .subjects("orders.>")
+                        .storageType(StorageType.File)
+                        .replicas(3)
+                        .build())
+                .withWindow(64)
+                .run();
+
+        assertEquals(RECORDS, report.getRecords());
+        assertEquals(3, report.getConnections());
+        try (Connection connection = Nats.connect(getOptions(container))) {
+            final long messages = connection.jetStreamManagement().getStreamInfo("orders")
+                    .getStreamState()
+                    .getMsgCount();
+            assertEquals(RECORDS, messages);
+        }
+    }
+
+    @Test
+    void checkKeyValueSeededFromBinaryOk(@TempDir Path directory) throws Exception {
+        final Path file = directory.resolve("users.bin");
+        try (OutputStream stream = Files.newOutputStream(file);
+                DataOutputStream output = new DataOutputStream(stream)) {
+            for (int i = 0; i < RECORDS; i++) {
+                final byte[] key = ("user-" + i).getBytes(StandardCharsets.UTF_8);
+                final byte[] value = ("value-" + i).getBytes(StandardCharsets.UTF_8);
+                output.writeInt(key.length);
+                output.write(key);
+                output.writeInt(value.length);
+                output.write(value);
+            }
+        }
+
+        final NatsSeedReport report = NatsSeeder.of(container)
+                .withBinary(file)
+                .withKeyValue(KeyValueConfiguration.builder()
+                        .name("users")
+                        .storageType(StorageType.File)
+                        .build())
+                .run();
+
+        assertEquals(RECORDS, report.getRecords());
+        try (Connection connection = Nats.connect(getOptions(container))) {
+            final byte[] value = connection.keyValue("users").get("user-42").getValue();
+            assertEquals("value-42", new String(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void checkTargetNotSpecifiedFails(@TempDir Path directory) throws Exception {
+        final Path file = Files.write(directory.resolve("empty.ndjson"), List.of());
+        assertThrows(IllegalArgumentException.class, () -> NatsSeeder.of(container).withNdjson(file).run());
+    }
+}
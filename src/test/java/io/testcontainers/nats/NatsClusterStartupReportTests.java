@@ -0,0 +1,42 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterStartupReportTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .build();
+
+    @Test
+    void checkClusterStartupReportOk() {
+        final NatsClusterStartupReport report = container.getStartupReport();
+        assertEquals(3, report.getNodes().size());
+        assertTrue(report.getTotal().compareTo(report.getNodesStarted()) >= 0);
+        assertTrue(report.getNodes().containsKey(report.getSlowestNode()));
+    }
+
+    @Test
+    void checkNodeStartupReportOk() {
+        for (NatsClusterContainer node : container.getNodes()) {
+            final NatsStartupReport report = node.getStartupReport();
+            assertFalse(report.isReused());
+            assertEquals(NatsStartupReport.Phase.values().length, report.getPhases().size());
+            assertTrue(report.getPhase(NatsStartupReport.Phase.READY).compareTo(Duration.ZERO) > 0);
+            assertEquals(report, container.getStartupReport().getNodes().get(node.getAlias()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsClusterTlsTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsCluster container = NatsCluster.builder("nats:2.11-alpine")
+            .withNodes(2)
+            .withTls(new NatsTls().withRoutes())
+            .build();
+
+    @Test
+    void checkRoutesFormedOverTls() {
+        container.getNodesMonitoring(NatsMonitoring::routezAsync)
+                .values()
+                .forEach(routez -> assertEquals(2, routez.getRemoteServers()));
+        container.getNodesMonitoring(NatsMonitoring::varzAsync)
+                .values()
+                .forEach(varz -> {
+                    assertTrue(varz.isTlsRequired());
+                    assertFalse(varz.isTlsVerify());
+                    assertTrue(varz.isClusterTlsRequired());
+                    assertTrue(varz.isClusterTlsVerify());
+                });
+    }
+
+    @Test
+    void checkPublishAcrossNodesOverTls() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withPublishers(3)
+                .withSubscribers(3)
+                .withMessages(1_000)
+                .run();
+
+        assertEquals(9_000, report.getReceived());
+        assertTrue(container.getTls().isRoutes());
+    }
+
+    @Test
+    void checkRouteTlsWithRouteProxyFails() {
+        assertThrows(IllegalArgumentException.class, () -> NatsCluster.builder("nats:2.11-alpine")
+                .withTls(new NatsTls().withRoutes())
+                .withRouteProxy()
+                .build());
+    }
+}
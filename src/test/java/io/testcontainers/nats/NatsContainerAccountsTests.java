@@ -0,0 +1,104 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import io.nats.client.Subscription;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerAccountsTests extends AbstractNatsRunner {
+
+    private static final NatsAccounts accounts = new NatsAccounts()
+            .withTenants("tenant", 100, 2)
+            .withStreamExport("tenant-1", "events.>")
+            .withStreamImport("tenant-2", "tenant-1", "events.>", "imported.events.>")
+            .withMapping("tenant-3", "orders.*", "mapped.orders.{{wildcard(1)}}");
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withConfig(new NatsConfig().withAccounts(accounts));
+
+    @Test
+    void checkAccountsAreIsolated() throws Exception {
+        try (Connection first = connect("tenant-1");
+                Connection other = connect("tenant-50")) {
+            final Subscription subscription = other.subscribe("isolated");
+            other.flush(Duration.ofSeconds(5));
+
+            first.publish("isolated", "value".getBytes(StandardCharsets.UTF_8));
+            first.flush(Duration.ofSeconds(5));
+            assertNull(subscription.nextMessage(Duration.ofMillis(500)));
+        }
+    }
+
+    @Test
+    void checkStreamImportOk() throws Exception {
+        try (Connection exporter = connect("tenant-1");
+                Connection importer = connect("tenant-2")) {
+            final Subscription subscription = importer.subscribe("imported.events.created");
+            importer.flush(Duration.ofSeconds(5));
+
+            exporter.publish("events.created", "value".getBytes(StandardCharsets.UTF_8));
+            final Message message = subscription.nextMessage(Duration.ofSeconds(5));
+            assertNotNull(message);
+            assertEquals("value", new String(message.getData(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void checkSubjectMappingOk() throws Exception {
+        try (Connection connection = connect("tenant-3")) {
+            final Subscription subscription = connection.subscribe("mapped.orders.1");
+            connection.flush(Duration.ofSeconds(5));
+
+            connection.publish("orders.1", "value".getBytes(StandardCharsets.UTF_8));
+            assertNotNull(subscription.nextMessage(Duration.ofSeconds(5)));
+        }
+    }
+
+    @Test
+    void checkDuplicateUserFails() {
+        assertEquals(2, accounts.getAccount("tenant-100").getUsers().size());
+        assertThrows(IllegalArgumentException.class, () -> new NatsAccounts()
+                .withUser("a", "user", "password")
+                .withUser("b", "user", "password"));
+        assertThrows(IllegalArgumentException.class, () -> accounts.getAccount("unknown"));
+    }
+
+    @Test
+    void checkGeneratedPasswordsAreStableForReuse() {
+        final NatsAccounts same = new NatsAccounts().withTenants("tenant", 2, 2);
+        final NatsAccounts other = new NatsAccounts().withTenants("tenant", 2, 2);
+        final NatsAccounts seeded = new NatsAccounts().withPasswordSeed("other").withTenants("tenant", 2, 2);
+
+        assertEquals(same.getConfig(), other.getConfig());
+        assertEquals(same.toString(), other.toString());
+        assertNotEquals(same.getUser("tenant-1-1").getPassword(), seeded.getUser("tenant-1-1").getPassword());
+        assertThrows(IllegalStateException.class, () -> same.withPasswordSeed("late"));
+    }
+
+    private static Connection connect(String account) throws Exception {
+        final NatsAccounts.User user = accounts.getAccount(account).getUser();
+        return Nats.connect(Options.builder()
+                .server(container.getURI().toString())
+                .userInfo(user.getUsername(), user.getPassword())
+                .connectionTimeout(Duration.ofSeconds(10))
+                .build());
+    }
+}
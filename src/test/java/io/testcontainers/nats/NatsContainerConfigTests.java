@@ -0,0 +1,42 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerConfigTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withConfig(new NatsConfig()
+                    .withMaxPayload(2 * 1024 * 1024)
+                    .withMaxPending(128 * 1024 * 1024)
+                    .withMaxConnections(100)
+                    .withWriteDeadline(Duration.ofSeconds(5))
+                    .withPingInterval(Duration.ofSeconds(30)));
+
+    @Test
+    void checkIsRunningAndMonitoringOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkMonitoringOk(container);
+    }
+
+    @Test
+    void checkConfigAppliedOk() {
+        final NatsMonitoring.Varz varz = container.getMonitoring().varz();
+        assertEquals(2 * 1024 * 1024, varz.getMaxPayload());
+        assertEquals(128 * 1024 * 1024, varz.getMaxPending());
+        assertEquals(100, varz.getMaxConnections());
+    }
+}
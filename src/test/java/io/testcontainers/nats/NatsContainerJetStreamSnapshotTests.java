@@ -0,0 +1,73 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.nats.client.Connection;
+import io.nats.client.JetStream;
+import io.nats.client.Nats;
+import io.nats.client.api.StorageType;
+import io.nats.client.api.StreamConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerJetStreamSnapshotTests extends AbstractNatsRunner {
+
+    private static final int MESSAGES = 1000;
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withJetStream(NatsJetStream.tmpfs());
+
+    @Test
+    void checkSnapshotRestoredOk(@TempDir Path directory) throws Exception {
+        try (Connection connection = Nats.connect(getOptions(container))) {
+            connection.jetStreamManagement().addStream(StreamConfiguration.builder()
+                    .name("seeded")
+                    .subjects("seeded.>")
+                    .storageType(StorageType.File)
+                    .build());
+
+            final JetStream jetStream = connection.jetStream();
+            for (int i = 0; i < MESSAGES; i++) {
+                jetStream.publish("seeded.subj", ("message-" + i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        final NatsJetStreamSnapshot snapshot = container.snapshotJetStream(directory);
+        assertEquals(1, snapshot.getServers().size());
+        assertEquals(snapshot.getServers(), NatsJetStreamSnapshot.of(directory).getServers());
+        assertThrows(IllegalArgumentException.class, () -> NatsCluster.builder("nats:2.11-alpine")
+                .withJetStream(NatsJetStream.tmpfs())
+                .withJetStreamSnapshot(snapshot)
+                .withReuse(true)
+                .build());
+
+        try (NatsContainer restored = new NatsContainer("nats:2.11-alpine")
+                .withJetStream(NatsJetStream.tmpfs())
+                .withJetStreamSnapshot(snapshot)) {
+            restored.start();
+
+            try (Connection connection = Nats.connect(getOptions(restored))) {
+                final long messages = connection.jetStreamManagement().getStreamInfo("seeded")
+                        .getStreamState()
+                        .getMsgCount();
+                assertEquals(MESSAGES, messages);
+            }
+        }
+    }
+
+    @Test
+    void checkSnapshotNotFoundFails(@TempDir Path directory) {
+        assertThrows(IllegalArgumentException.class, () -> NatsJetStreamSnapshot.of(directory));
+    }
+}
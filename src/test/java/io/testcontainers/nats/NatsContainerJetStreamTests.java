@@ -0,0 +1,36 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nats.client.api.StorageType;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerJetStreamTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withJetStream(NatsJetStream.tmpfs().withTmpfsSize("256m"));
+
+    @Test
+    void checkIsRunningAndMonitoringOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkMonitoringOk(container);
+    }
+
+    @Test
+    void checkIsRunningAndJetStreamOk() {
+        final boolean running = container.isRunning();
+        assertTrue(running);
+
+        checkJetStreamPublished(container, StorageType.File);
+    }
+}
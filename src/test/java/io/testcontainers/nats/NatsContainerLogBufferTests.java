@@ -0,0 +1,40 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerLogBufferTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withLogBuffer(100);
+
+    @Test
+    void checkLogsBufferedOk() {
+        final List<String> lines = container.getBufferedLogs();
+        assertTrue(lines.size() <= 100);
+        assertTrue(lines.stream().anyMatch(line -> line.contains("Server is ready")));
+        container.dumpLogs();
+    }
+
+    @Test
+    void checkLogBufferKeepsLastLinesOk() {
+        final NatsContainer small = new NatsContainer("nats:2.11-alpine")
+                .withLogBuffer(2);
+        try {
+            small.start();
+            assertTrue(small.getBufferedLogs().size() <= 2);
+        } finally {
+            small.stop();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.Subscription;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerPoolTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsContainerPool pool = new NatsContainerPool("nats:2.11-alpine", 1);
+
+    @Test
+    void checkLeaseMessageOk() {
+        try (NatsLease lease = pool.lease()) {
+            checkConnectionEstablished(lease);
+        }
+    }
+
+    @Test
+    void checkLeasesAreIsolated() throws Exception {
+        try (NatsLease first = pool.lease();
+                NatsLease second = pool.lease()) {
+            assertEquals(first.getContainer(), second.getContainer());
+            assertNotEquals(first.getAccount(), second.getAccount());
+
+            try (Connection firstConnection = Nats.connect(getOptions(first));
+                    Connection secondConnection = Nats.connect(getOptions(second))) {
+                Subscription subscription = secondConnection.subscribe("subj");
+                secondConnection.flush(Duration.ofSeconds(5));
+
+                firstConnection.publish("subj", "subjValue".getBytes(StandardCharsets.UTF_8));
+                firstConnection.flush(Duration.ofSeconds(5));
+
+                assertNull(subscription.nextMessage(Duration.ofMillis(500)));
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsContainerTlsTests extends AbstractNatsRunner {
+
+    private static final NatsTls tls = new NatsTls().withMutual();
+
+    @Container
+    private static final NatsContainer container = new NatsContainer("nats:2.11-alpine")
+            .withTls(tls);
+
+    @Test
+    void checkMutualTlsConnectionOk() throws Exception {
+        assertEquals("tls", container.getURI().getScheme());
+        try (Connection connection = Nats.connect(Options.builder()
+                .server(container.getURI().toString())
+                .sslContext(tls.getSSLContext())
+                .connectionTimeout(Duration.ofSeconds(10))
+                .build())) {
+            assertEquals(Connection.Status.CONNECTED, connection.getStatus());
+            assertTrue(connection.getServerInfo().isTLSRequired());
+        }
+    }
+
+    @Test
+    void checkPlainConnectionFails() {
+        assertThrows(Exception.class, () -> Nats.connect(Options.builder()
+                .server(String.format("nats://%s:%s", container.getHost(), container.getPort()))
+                .maxReconnects(0)
+                .connectionTimeout(Duration.ofSeconds(5))
+                .build()));
+    }
+
+    @Test
+    void checkLoadGeneratorUsesTls() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withPublishers(1)
+                .withSubscribers(1)
+                .withMessages(1_000)
+                .run();
+
+        assertEquals(1_000, report.getReceived());
+    }
+}
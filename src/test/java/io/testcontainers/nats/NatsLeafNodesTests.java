@@ -0,0 +1,73 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import io.nats.client.Nats;
+import io.nats.client.Subscription;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsLeafNodesTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsLeafNodes container = NatsLeafNodes.builder(new NatsContainer("nats:2.11-alpine"))
+            .withLeaves(3)
+            .build();
+
+    @Container
+    private static final NatsLeafNodes accountContainer = NatsLeafNodes
+            .builder(new NatsContainer("nats:2.11-alpine").withLeafNodes())
+            .withLeaves(3)
+            .withLeafAccount(0, "tenant")
+            .withLeafAccount(1, "tenant")
+            .build();
+
+    @Test
+    void checkHubLeafNodesOk() {
+        assertEquals(3, container.getMonitoring().leafz().getLeafNodes());
+        container.getLeaves().forEach(leaf -> assertEquals(1, leaf.getMonitoring().leafz().getLeafNodes()));
+    }
+
+    @Test
+    void checkFanOutLoadOk() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withSubscribers(3)
+                .withMessages(100)
+                .run();
+
+        assertEquals(300, report.getReceived());
+    }
+
+    @Test
+    void checkLeafAccountIsolationOk() throws Exception {
+        try (Connection publisher = Nats.connect(getOptions(accountContainer.getLeaf(0)));
+                Connection tenant = Nats.connect(getOptions(accountContainer.getLeaf(1)));
+                Connection global = Nats.connect(getOptions(accountContainer.getLeaf(2)))) {
+            final Subscription tenantSubscription = tenant.subscribe("leaf.subj");
+            final Subscription globalSubscription = global.subscribe("leaf.subj");
+            tenant.flush(Duration.ofSeconds(5));
+            global.flush(Duration.ofSeconds(5));
+
+            Message received = null;
+            for (int i = 0; i < 50 && received == null; i++) {
+                publisher.publish("leaf.subj", "value".getBytes(StandardCharsets.UTF_8));
+                received = tenantSubscription.nextMessage(Duration.ofMillis(200));
+            }
+
+            assertNotNull(received);
+            assertNull(globalSubscription.nextMessage(Duration.ofMillis(500)));
+        }
+    }
+}
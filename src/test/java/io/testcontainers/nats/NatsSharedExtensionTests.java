@@ -0,0 +1,92 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import io.nats.client.Nats;
+import io.nats.client.Subscription;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@NatsShared(nodes = 3, accounts = 4)
+@Execution(ExecutionMode.CONCURRENT)
+class NatsSharedExtensionTests extends AbstractNatsRunner {
+
+    // accounts of concurrently running tests, account is removed before it is released to pool
+    private static final Set<String> activeAccounts = ConcurrentHashMap.newKeySet();
+
+    private static NatsCluster shared;
+
+    @BeforeAll
+    static void setup(NatsCluster cluster) {
+        shared = cluster;
+    }
+
+    @BeforeEach
+    void leaseAccount(NatsTestScope scope) {
+        assertNotNull(scope.getAccount());
+        assertTrue(activeAccounts.add(scope.getAccount()), "Account is leased concurrently: " + scope.getAccount());
+    }
+
+    @AfterEach
+    void releaseAccount(NatsTestScope scope) {
+        assertTrue(activeAccounts.remove(scope.getAccount()));
+    }
+
+    @Test
+    void checkClusterIsShared(NatsCluster cluster, NatsStartable startable) {
+        assertSame(shared, cluster);
+        assertSame(shared, startable);
+        assertTrue(cluster.isRunning());
+    }
+
+    @RepeatedTest(8)
+    void checkScopeIsExclusive(NatsTestScope scope) throws Exception {
+        // keeps account leased, so repetitions overlap and wait for released accounts
+        Thread.sleep(200);
+        assertTrue(activeAccounts.contains(scope.getAccount()));
+        assertFalse(activeAccounts.size() > 4);
+        assertTrue(scope.getSubject("orders").startsWith(scope.getPrefix() + "."));
+    }
+
+    @Test
+    void checkScopeAccountIsIsolated(NatsTestScope scope) throws Exception {
+        final String subject = scope.getSubject("isolated");
+        try (Connection scoped = Nats.connect(getOptions(scope));
+                Connection other = Nats.connect(getOptions(shared))) {
+            final Subscription otherSubscription = other.subscribe(subject);
+            final Subscription scopedSubscription = scoped.subscribe(subject);
+            other.flush(Duration.ofSeconds(5));
+            scoped.flush(Duration.ofSeconds(5));
+
+            scoped.publish(subject, "value".getBytes(StandardCharsets.UTF_8));
+            final Message message = scopedSubscription.nextMessage(Duration.ofSeconds(5));
+            assertEquals("value", new String(message.getData(), StandardCharsets.UTF_8));
+            assertNull(otherSubscription.nextMessage(Duration.ofMillis(500)));
+        }
+    }
+
+    @Test
+    void checkScopeNameIsPrefixed(NatsTestScope scope) {
+        assertEquals(scope.getPrefix() + "-x", scope.getName("x"));
+    }
+}
@@ -0,0 +1,44 @@
+package io.testcontainers.nats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class NatsSuperClusterTests extends AbstractNatsRunner {
+
+    @Container
+    private static final NatsSuperCluster container = NatsSuperCluster.builder("nats:2.11-alpine")
+            .withCluster("east", 2)
+            .withCluster("west", 2)
+            .build();
+
+    @Test
+    void checkIsRunningAndGatewaysOk() {
+        assertEquals(2, container.getURIs().size());
+        container.getClusters().values().forEach(cluster -> {
+            assertTrue(cluster.isRunning());
+            cluster.getNodes().forEach(node -> assertEquals(1,
+                    node.getMonitoring().gatewayz().getOutboundGateways().size()));
+        });
+    }
+
+    @Test
+    void checkCrossClusterPublishOk() {
+        final NatsLoadReport report = NatsLoadGenerator.of(container)
+                .withMessages(100)
+                .withRequestReplyPairs(1)
+                .withRequests(10)
+                .run();
+
+        assertEquals(100, report.getReceived());
+        assertEquals(10, report.getRequests());
+    }
+}